@@ -2,12 +2,15 @@ package com.example.epari.admin.dto;
 
 import java.time.LocalDate;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 강의 정보 목록을 담는 응답 DTO
  */
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)  // 캐시 값 역직렬화용
 public class AdminCourseListResponseDto {
 
 	private final Long id;
@@ -37,6 +40,7 @@ public class AdminCourseListResponseDto {
 	}
 
 	@Getter
+	@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)  // 캐시 값 역직렬화용
 	public static class InstructorInfo {
 
 		private final Long id;
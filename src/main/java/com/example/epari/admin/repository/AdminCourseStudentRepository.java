@@ -36,6 +36,8 @@ public interface AdminCourseStudentRepository extends JpaRepository<CourseStuden
 
 	List<CourseStudent> findByCourseId(Long courseId);
 
+	List<CourseStudent> findByStudent(Student student);
+
 	void deleteByStudent(Student student);
 
 }
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,8 @@ import com.example.epari.admin.repository.AdminCurriculumRepository;
 import com.example.epari.course.domain.Course;
 import com.example.epari.course.domain.Curriculum;
 import com.example.epari.global.common.service.S3FileService;
+import com.example.epari.global.event.CourseMembershipChangedEvent;
+import com.example.epari.global.event.DashboardChangedEvent;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 import com.example.epari.global.exception.auth.InstructorNotFoundException;
@@ -51,6 +54,8 @@ public class AdminCourseService {
 
 	private final S3FileService s3FileService;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * 키워드 기반 강의 검색 메서드
 	 */
@@ -106,7 +111,7 @@ public class AdminCourseService {
 	/**
 	 * 모든 강의 목록 조회
 	 */
-	@Cacheable(value = "courses", key = "'all'")
+	@Cacheable(value = "courses", key = "'all'", sync = true)
 	public List<AdminCourseListResponseDto> getCourses() {
 		log.info("Fetching all courses with student count");
 		List<AdminCourseListResponseDto> courses = courseRepository.findAllWithStudentCount();
@@ -158,6 +163,11 @@ public class AdminCourseService {
 		Instructor instructor = instructorRepository.findById(request.getInstructorId())
 				.orElseThrow(InstructorNotFoundException::new);
 
+		// 담당 강사가 바뀌면 강의 권한 캐시 무효화 (커밋 후)
+		if (!course.getInstructor().getId().equals(instructor.getId())) {
+			eventPublisher.publishEvent(CourseMembershipChangedEvent.of(courseId));
+		}
+
 		// 3. 이미지 처리
 		updateCourseImage(course, request);
 
@@ -172,6 +182,8 @@ public class AdminCourseService {
 
 		// 5. 커리큘럼 수정
 		updateCourseCurriculums(course, request.getCurriculums());
+
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 	}
 
 	/**
@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +19,7 @@ import com.example.epari.admin.repository.AdminStudentRepository;
 import com.example.epari.course.domain.Course;
 import com.example.epari.course.domain.CourseStudent;
 import com.example.epari.course.repository.CourseRepository;
+import com.example.epari.global.event.CourseMembershipChangedEvent;
 import com.example.epari.user.domain.Student;
 
 import lombok.RequiredArgsConstructor;
@@ -36,6 +38,8 @@ public class AdminCourseStudentService {
 
 	private final CourseRepository courseRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * 강의에 등록된 수강생 목록 조회
 	 */
@@ -92,6 +96,11 @@ public class AdminCourseStudentService {
 					.collect(Collectors.toList());
 			courseStudentRepository.saveAll(newEnrollments);
 		}
+
+		// 7. 강의 권한 캐시 무효화 (커밋 후)
+		if (!toAdd.isEmpty() || !toRemove.isEmpty()) {
+			eventPublisher.publishEvent(CourseMembershipChangedEvent.of(courseId));
+		}
 	}
 
 }
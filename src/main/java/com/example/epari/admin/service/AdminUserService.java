@@ -1,5 +1,6 @@
 package com.example.epari.admin.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +12,8 @@ import com.example.epari.admin.repository.AdminInstructorRepository;
 import com.example.epari.course.domain.Course;
 import com.example.epari.course.domain.CourseStudent;
 import com.example.epari.course.repository.CourseRepository;
+import com.example.epari.global.event.CourseMembershipChangedEvent;
+import com.example.epari.global.event.UserChangedEvent;
 import com.example.epari.user.domain.Instructor;
 import com.example.epari.user.domain.Student;
 import com.example.epari.user.repository.StudentRepository;
@@ -32,6 +35,8 @@ public class AdminUserService {
 
 	private final AdminInstructorRepository instructorRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * 수강생 승인 처리 메서드
 	 * 수강생 저장 및 과목 매핑 수행
@@ -42,12 +47,14 @@ public class AdminUserService {
 		Student student = Student.createStudent(email, request.getName());
 
 		studentRepository.save(student);
+		eventPublisher.publishEvent(UserChangedEvent.of(email));
 
 		// 2. 과목 매핑
 		Course course = courseRepository.findById(request.getCourseId())
 				.orElseThrow(CourseNotFoundException::new);
 
 		courseStudentRepository.save(new CourseStudent(course, student));
+		eventPublisher.publishEvent(CourseMembershipChangedEvent.of(course.getId()));
 
 		return course.getName();
 	}
@@ -59,6 +66,7 @@ public class AdminUserService {
 	public void approveInstructor(String email, InstructorApprovalRequestDTO request) {
 		// 1. 사용자 저장
 		instructorRepository.save(Instructor.createInstructor(email, request.getName()));
+		eventPublisher.publishEvent(UserChangedEvent.of(email));
 	}
 
 	/**
@@ -70,8 +78,12 @@ public class AdminUserService {
 	public void rollbackStudentApproval(String email) {
 		studentRepository.findByEmail(email)
 				.ifPresent(student -> {
+					courseStudentRepository.findByStudent(student)
+							.forEach(courseStudent -> eventPublisher.publishEvent(
+									CourseMembershipChangedEvent.of(courseStudent.getCourse().getId())));
 					courseStudentRepository.deleteByStudent(student);
 					studentRepository.delete(student);
+					eventPublisher.publishEvent(UserChangedEvent.of(email));
 				});
 	}
 
@@ -82,7 +94,10 @@ public class AdminUserService {
 	@Transactional
 	public void rollbackInstructorApproval(String email) {
 		instructorRepository.findByEmail(email)
-				.ifPresent(instructorRepository::delete);
+				.ifPresent(instructor -> {
+					instructorRepository.delete(instructor);
+					eventPublisher.publishEvent(UserChangedEvent.of(email));
+				});
 	}
 
 }
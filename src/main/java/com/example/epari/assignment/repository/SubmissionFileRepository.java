@@ -1,6 +1,10 @@
 package com.example.epari.assignment.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.epari.assignment.domain.SubmissionFile;
@@ -8,4 +12,8 @@ import com.example.epari.assignment.domain.SubmissionFile;
 @Repository
 public interface SubmissionFileRepository extends JpaRepository<SubmissionFile, Long> {
 
+	// 과제에 제출된 모든 파일 URL 조회 (과제 삭제 시 S3 삭제 예약용)
+	@Query("SELECT f.fileUrl FROM SubmissionFile f WHERE f.submission.assignment.id = :assignmentId")
+	List<String> findFileUrlsByAssignmentId(@Param("assignmentId") Long assignmentId);
+
 }
@@ -21,8 +21,9 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
 			"WHERE c.id = :courseId")
 	List<Submission> findByCourseId(Long courseId);
 
-	@Query("SELECT s FROM Submission s " +
+	@Query("SELECT DISTINCT s FROM Submission s " +
 			"LEFT JOIN FETCH s.student " +
+			"LEFT JOIN FETCH s.files " +
 			"JOIN FETCH s.assignment a " +
 			"JOIN FETCH a.course c " +
 			"WHERE a.id = :assignmentId " +
@@ -3,17 +3,17 @@ package com.example.epari.assignment.service;
 import com.example.epari.admin.exception.CourseNotFoundException;
 import com.example.epari.assignment.domain.Assignment;
 import com.example.epari.assignment.domain.AssignmentFile;
-import com.example.epari.assignment.domain.Submission;
-import com.example.epari.assignment.domain.SubmissionFile;
 import com.example.epari.assignment.dto.assignment.AssignmentRequestDto;
 import com.example.epari.assignment.dto.assignment.AssignmentResponseDto;
 import com.example.epari.assignment.repository.AssignmentRepository;
-import com.example.epari.assignment.repository.SubmissionRepository;
+import com.example.epari.assignment.repository.SubmissionFileRepository;
 import com.example.epari.course.domain.Course;
 import com.example.epari.course.repository.CourseRepository;
 import com.example.epari.global.common.base.BaseUser;
 import com.example.epari.global.common.repository.BaseUserRepository;
+import com.example.epari.global.common.service.FileDeletionService;
 import com.example.epari.global.common.service.S3FileService;
+import com.example.epari.global.event.DashboardChangedEvent;
 import com.example.epari.global.exception.assignment.AssignmentAccessDeniedException;
 import com.example.epari.global.exception.assignment.AssignmentInvalidException;
 import com.example.epari.global.exception.assignment.AssignmentNotFoundException;
@@ -21,18 +21,21 @@ import com.example.epari.global.exception.auth.AuthUserNotFoundException;
 import com.example.epari.global.exception.auth.InstructorNotFoundException;
 import com.example.epari.global.exception.course.CourseInstructorMismatchException;
 import com.example.epari.global.exception.file.AssignmentFileNotFoundException;
-import com.example.epari.global.exception.file.FileDeleteFailedException;
 import com.example.epari.global.exception.file.FileUploadFailedException;
 import com.example.epari.user.domain.Instructor;
 import com.example.epari.user.repository.InstructorRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileNotFoundException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -53,25 +56,57 @@ public class AssignmentService {
 
 	private final S3FileService s3FileService;
 
-	private final SubmissionRepository submissionRepository;
+	private final FileDeletionService fileDeletionService;
+
+	private final SubmissionFileRepository submissionFileRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * 과제 추가
+	 * 담당 강사인지 먼저 확인한 뒤 파일을 트랜잭션 밖에서 병렬로 업로드하고, 저장에 실패하면 업로드한 파일 삭제
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public AssignmentResponseDto addAssignment(Long courseId, AssignmentRequestDto requestDto, String email) {
+		Long instructorId = validateCourseInstructor(courseId, email);
+
+		List<String> fileUrls = s3FileService.uploadFiles("assignments", requestDto.getFiles());
+		try {
+			return transactionTemplate.execute(
+					status -> saveAssignment(courseId, requestDto, instructorId, fileUrls));
+		} catch (RuntimeException e) {
+			s3FileService.deleteFilesQuietly(fileUrls);
+			throw e;
+		}
+	}
+
+	// 업로드 전 검증 (강의 존재, 담당 강사 여부) 후 강사 ID 반환
+	private Long validateCourseInstructor(Long courseId, String email) {
 		BaseUser user = baseUserRepository.findByEmail(email)
 				.orElseThrow(AuthUserNotFoundException::new);
 
 		Course course = courseRepository.findById(courseId)
 				.orElseThrow(CourseNotFoundException::new);
 
-		Instructor instructor = instructorRepository.findById(user.getId())
-				.orElseThrow(InstructorNotFoundException::new);
+		if (!instructorRepository.existsById(user.getId())) {
+			throw new InstructorNotFoundException();
+		}
 
-		if (!course.getInstructor().getId().equals(instructor.getId())) {
+		if (!course.getInstructor().getId().equals(user.getId())) {
 			throw new CourseInstructorMismatchException();
 		}
+		return user.getId();
+	}
+
+	private AssignmentResponseDto saveAssignment(Long courseId, AssignmentRequestDto requestDto, Long instructorId,
+			List<String> fileUrls) {
+		Course course = courseRepository.findById(courseId)
+				.orElseThrow(CourseNotFoundException::new);
+
+		Instructor instructor = instructorRepository.findById(instructorId)
+				.orElseThrow(InstructorNotFoundException::new);
 
 		Assignment assignment = Assignment.createAssignment(
 				requestDto.getTitle(),
@@ -81,21 +116,11 @@ public class AssignmentService {
 				instructor
 		);
 
-		if (requestDto.getFiles() != null && !requestDto.getFiles().isEmpty()) {
-			for (MultipartFile file : requestDto.getFiles()) {
-				String fileUrl = s3FileService.uploadFile("assignments", file);
-				AssignmentFile assignmentFile = AssignmentFile.createAssignmentFile(
-						file.getOriginalFilename(),
-						extractStoredFileName(fileUrl),
-						fileUrl,
-						file.getSize(),
-						assignment
-				);
-				assignment.addFile(assignmentFile);
-			}
-		}
+		addFiles(assignment, requestDto.getFiles(), fileUrls);
 
-		return AssignmentResponseDto.from(assignmentRepository.save(assignment));
+		Assignment savedAssignment = assignmentRepository.save(assignment);
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
+		return AssignmentResponseDto.from(savedAssignment);
 	}
 
 	/**
@@ -156,20 +181,10 @@ public class AssignmentService {
 				requestDto.getDeadline()
 		);
 
-		if (requestDto.getFiles() != null && !requestDto.getFiles().isEmpty()) {
-			for (MultipartFile file : requestDto.getFiles()) {
-				String fileUrl = s3FileService.uploadFile("assignments", file);
-				AssignmentFile assignmentFile = AssignmentFile.createAssignmentFile(
-						file.getOriginalFilename(),
-						extractStoredFileName(fileUrl),
-						fileUrl,
-						file.getSize(),
-						assignment
-				);
-				assignment.addFile(assignmentFile);
-			}
-		}
+		List<String> fileUrls = s3FileService.uploadFiles("assignments", requestDto.getFiles());
+		addFiles(assignment, requestDto.getFiles(), fileUrls);
 
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 		return AssignmentResponseDto.from(assignment);
 	}
 
@@ -188,30 +203,15 @@ public class AssignmentService {
 			throw new AssignmentAccessDeniedException();
 		}
 
-		// 연관된 제출물의 S3 파일들 삭제
-		List<Submission> submissions = submissionRepository.findByAssignmentId(assignmentId);
-		for (Submission submission : submissions) {
-			for (SubmissionFile submissionFile : submission.getFiles()) {
-				try {
-					s3FileService.deleteFile(submissionFile.getFileUrl());
-				} catch (Exception e) {
-					log.error("S3에서 제출물 파일 삭제를 실패했습니다: {}", submissionFile.getFileUrl(), e);
-					throw new FileDeleteFailedException();
-				}
-			}
-		}
-
-		// 과제 S3 파일들 삭제
-		for (AssignmentFile assignmentFile : assignment.getFiles()) {
-			try {
-				s3FileService.deleteFile(assignmentFile.getFileUrl());
-			} catch (Exception e) {
-				log.error("S3에서 파일 삭제를 실패했습니다.", assignmentFile.getFileUrl(), e);
-				throw new FileDeleteFailedException();
-			}
-		}
+		// 과제 파일과 연관된 제출물 파일의 S3 삭제를 한 번에 예약 (커밋 후 백그라운드에서 일괄 삭제)
+		List<String> fileUrls = new ArrayList<>(submissionFileRepository.findFileUrlsByAssignmentId(assignmentId));
+		assignment.getFiles().forEach(assignmentFile -> fileUrls.add(assignmentFile.getFileUrl()));
+		fileDeletionService.deleteLater(fileUrls);
 
 		assignmentRepository.delete(assignment);
+		if (assignment.getCourse() != null) {
+			eventPublisher.publishEvent(DashboardChangedEvent.course(assignment.getCourse().getId()));
+		}
 	}
 
 	/**
@@ -245,19 +245,31 @@ public class AssignmentService {
 				.findFirst()
 				.orElseThrow(AssignmentFileNotFoundException::new);
 
-		try {
-			s3FileService.deleteFile(file.getFileUrl());
-		} catch (Exception e) {
-			log.error("S3에서 파일 삭제를 실패했습니다: {}", file.getFileUrl(), e);
-			throw new FileDeleteFailedException();
-		}
+		fileDeletionService.deleteLater(List.of(file.getFileUrl()));
 
 		// 과제에서 파일 제거
 		assignment.removeFile(file);
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 
 		return AssignmentResponseDto.from(assignment);
 	}
 
+	// 업로드된 파일 추가 (업로드 URL은 파일 순서와 같음)
+	private void addFiles(Assignment assignment, List<MultipartFile> files, List<String> fileUrls) {
+		for (int i = 0; i < fileUrls.size(); i++) {
+			MultipartFile file = files.get(i);
+			String fileUrl = fileUrls.get(i);
+			AssignmentFile assignmentFile = AssignmentFile.createAssignmentFile(
+					file.getOriginalFilename(),
+					extractStoredFileName(fileUrl),
+					fileUrl,
+					file.getSize(),
+					assignment
+			);
+			assignment.addFile(assignmentFile);
+		}
+	}
+
 	private String extractStoredFileName(String fileUrl) {
 		return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
 	}
@@ -11,15 +11,17 @@ import com.example.epari.assignment.repository.AssignmentRepository;
 import com.example.epari.assignment.repository.SubmissionRepository;
 import com.example.epari.course.domain.Course;
 import com.example.epari.course.repository.CourseRepository;
+import com.example.epari.global.common.service.FileDeletionService;
 import com.example.epari.global.common.service.S3FileService;
+import com.example.epari.global.common.util.RosterMerger;
 import com.example.epari.global.event.NotificationEvent;
 import com.example.epari.global.event.NotificationType;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 import com.example.epari.global.exception.assignment.*;
 import com.example.epari.global.exception.auth.InstructorNotFoundException;
-import com.example.epari.global.exception.file.FileDeleteFailedException;
 import com.example.epari.global.exception.file.SubmissionFileNotFoundException;
+import com.example.epari.global.validator.CourseAccessValidator;
 import com.example.epari.user.domain.Instructor;
 import com.example.epari.user.domain.Student;
 import com.example.epari.user.repository.InstructorRepository;
@@ -29,7 +31,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Duration;
@@ -52,21 +56,59 @@ public class SubmissionService {
 
 	private final StudentRepository studentRepository;
 
+	private final RosterMerger rosterMerger;
+
 	private final S3FileService s3FileService;
 
+	private final FileDeletionService fileDeletionService;
+
 	private final InstructorRepository instructorRepository;
 
 	private final ApplicationEventPublisher eventPublisher;
 
+	private final TransactionTemplate transactionTemplate;
+
+	private final CourseAccessValidator courseAccessValidator;
+
 	@Value("${app.frontend-url}")
 	private String frontendUrl;
 
 	/**
 	 * 과제 제출
+	 * 강의/과제/수강 여부를 먼저 확인한 뒤 파일을 트랜잭션 밖에서 병렬로 업로드하고, 저장에 실패하면 업로드한 파일 삭제
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public SubmissionResponseDto addSubmission(Long courseId, Long assignmentId, SubmissionRequestDto requestDto,
 											   Long studentId) {
+		validateSubmission(courseId, assignmentId, studentId);
+
+		List<String> fileUrls = s3FileService.uploadFiles("submissions", requestDto.getFiles());
+		try {
+			return transactionTemplate.execute(
+					status -> saveSubmission(courseId, assignmentId, requestDto, studentId, fileUrls));
+		} catch (RuntimeException e) {
+			s3FileService.deleteFilesQuietly(fileUrls);
+			throw e;
+		}
+	}
+
+	// 업로드 전 검증 (강의/과제 존재, 과제의 강의 일치, 수강 여부)
+	private void validateSubmission(Long courseId, Long assignmentId, Long studentId) {
+		if (!courseRepository.existsById(courseId)) {
+			throw new CourseNotFoundException();
+		}
+
+		Assignment assignment = assignmentRepository.findById(assignmentId)
+				.orElseThrow(AssignmentNotFoundException::new);
+		if (!assignment.getCourse().getId().equals(courseId)) {
+			throw new AssignmentNotFoundException();
+		}
+
+		courseAccessValidator.validateStudentAccess(courseId, studentId);
+	}
+
+	private SubmissionResponseDto saveSubmission(Long courseId, Long assignmentId, SubmissionRequestDto requestDto,
+			Long studentId, List<String> fileUrls) {
 		Course course = courseRepository.findById(courseId)
 				.orElseThrow(CourseNotFoundException::new);
 
@@ -92,21 +134,20 @@ public class SubmissionService {
 			submission = Submission.createSubmission(requestDto.getDescription(), assignment, student);
 		}
 
-		// 파일 업로드 처리
-		if (requestDto.getFiles() != null && !requestDto.getFiles().isEmpty()) {
-			for (MultipartFile file : requestDto.getFiles()) {
-				String fileUrl = s3FileService.uploadFile("submissions", file);
-
-				SubmissionFile submissionFile = SubmissionFile.createSubmissionFile(
-						file.getOriginalFilename(),
-						extractStoredFileName(fileUrl),
-						fileUrl,
-						file.getSize(),
-						submission
-				);
-
-				submission.addFile(submissionFile);
-			}
+		// 업로드된 파일 추가
+		for (int i = 0; i < fileUrls.size(); i++) {
+			MultipartFile file = requestDto.getFiles().get(i);
+			String fileUrl = fileUrls.get(i);
+
+			SubmissionFile submissionFile = SubmissionFile.createSubmissionFile(
+					file.getOriginalFilename(),
+					extractStoredFileName(fileUrl),
+					fileUrl,
+					file.getSize(),
+					submission
+			);
+
+			submission.addFile(submissionFile);
 		}
 
 		return SubmissionResponseDto.from(submissionRepository.save(submission));
@@ -190,16 +231,16 @@ public class SubmissionService {
 
 		submission.updateSubmission(requestDto.getDescription());
 
-		// 파일 업로드 처리
-		if (requestDto.getFiles() != null && !requestDto.getFiles().isEmpty()) {
-			for (MultipartFile file : requestDto.getFiles()) {
-				String fileUrl = s3FileService.uploadFile("submissions", file);
+		// 파일 병렬 업로드 처리
+		List<String> fileUrls = s3FileService.uploadFiles("submissions", requestDto.getFiles());
+		for (int i = 0; i < fileUrls.size(); i++) {
+			MultipartFile file = requestDto.getFiles().get(i);
+			String fileUrl = fileUrls.get(i);
 
-				SubmissionFile submissionFile = SubmissionFile.createSubmissionFile(file.getOriginalFilename(),
-						extractStoredFileName(fileUrl), fileUrl, file.getSize(), submission);
+			SubmissionFile submissionFile = SubmissionFile.createSubmissionFile(file.getOriginalFilename(),
+					extractStoredFileName(fileUrl), fileUrl, file.getSize(), submission);
 
-				submission.addFile(submissionFile);
-			}
+			submission.addFile(submissionFile);
 		}
 
 		return SubmissionResponseDto.from(submission);
@@ -268,15 +309,8 @@ public class SubmissionService {
 			throw new SubmissionInvalidException();
 		}
 
-		// S3에서 관련 파일들 삭제
-		for (SubmissionFile submissionFile : submission.getFiles()) {
-			try {
-				s3FileService.deleteFile(submissionFile.getFileUrl());
-			} catch (Exception e) {
-				log.error("S3에서 파일 삭제를 실패했습니다: {}", submissionFile.getFileUrl(), e);
-				throw new FileDeleteFailedException();
-			}
-		}
+		// S3 파일 삭제 예약 (커밋 후 백그라운드에서 일괄 삭제)
+		fileDeletionService.deleteLater(submission.getFiles().stream().map(SubmissionFile::getFileUrl).toList());
 
 		submissionRepository.delete(submission);
 	}
@@ -301,18 +335,15 @@ public class SubmissionService {
 		// 해당 코스의 모든 학생 목록 조회
 		List<Student> enrolledStudents = studentRepository.findByCourseId(courseId);
 
-		// 제출/미제출 학생 모두 포함한 응답 DTO 생성
-		return enrolledStudents.stream()
-				.map(student -> {
-					Optional<Submission> studentSubmission = submissions.stream()
-							.filter(sub -> sub.getStudent().getId().equals(student.getId()))
-							.findFirst();
-
-					return studentSubmission
-							.map(SubmissionResponseDto::from)
-							.orElse(SubmissionResponseDto.createUnsubmitted(student, assignment));
-				})
-				.collect(Collectors.toList());
+		// 제출/미제출 학생 모두 포함한 응답 DTO 생성 (학생 ID 기준 병합)
+		return rosterMerger.merge(
+				enrolledStudents,
+				Student::getId,
+				submissions,
+				submission -> submission.getStudent() != null ? submission.getStudent().getId() : null,
+				SubmissionResponseDto::from,
+				student -> SubmissionResponseDto.createUnsubmitted(student, assignment)
+		);
 	}
 
 	/**
@@ -344,13 +375,7 @@ public class SubmissionService {
 				.findFirst()
 				.orElseThrow(SubmissionFileNotFoundException::new);
 
-		try {
-			s3FileService.deleteFile(file.getFileUrl());
-		} catch (Exception e) {
-			log.error("S3에서 파일 삭제를 실패했습니다: {}", file.getFileUrl(), e);
-			throw new FileDeleteFailedException();
-		}
-
+		fileDeletionService.deleteLater(List.of(file.getFileUrl()));
 		submission.removeFile(file);
 
 		return SubmissionResponseDto.from(submission);
@@ -5,24 +5,27 @@ import com.example.epari.board.repository.NoticeFileRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
-import software.amazon.awssdk.core.ResponseBytes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
 
 @Slf4j
 @RestController
@@ -30,6 +33,9 @@ import java.nio.charset.StandardCharsets;
 @RequestMapping("/api/notices")
 public class FileController {
 
+	// 단일 구간 Range 헤더 (bytes=0-99, bytes=100-, bytes=-100)
+	private static final Pattern SINGLE_RANGE_PATTERN = Pattern.compile("^bytes=(\\d+-\\d*|-\\d+)$");
+
 	private final NoticeFileRepository noticeFileRepository;
 
 	private final S3Client s3Client;
@@ -38,10 +44,14 @@ public class FileController {
 
 	/**
 	 * 파일 다운로드 처리
+	 * S3 객체를 메모리에 올리지 않고 응답으로 바로 스트리밍하며, Range(단일 구간)와 ETag 조건부 요청을 S3에 그대로 전달
+	 * Resource 본문은 Spring이 Range 헤더를 다시 처리하면서 스트림을 미리 읽어버리므로 StreamingResponseBody로 응답
 	 */
 	@GetMapping("/{noticeId}/files/{fileId}/download")
-	public ResponseEntity<Resource> downloadFile(@PathVariable Long noticeId, @PathVariable Long fileId) {
-		log.info("Downloading file. NoticeId: {}, FileId: {}", noticeId, fileId);
+	public ResponseEntity<StreamingResponseBody> downloadFile(@PathVariable Long noticeId, @PathVariable Long fileId,
+			@RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		log.info("Downloading file. NoticeId: {}, FileId: {}, Range: {}", noticeId, fileId, range);
 
 		try {
 			// 1. 파일 정보 조회
@@ -53,37 +63,65 @@ public class FileController {
 			String s3Key = extractKeyFromUrl(noticeFile.getFileUrl());
 			log.info("Extracted S3 key from URL: {}", s3Key);
 
-			// 3. S3에서 파일 가져오기
-			GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+			// 3. S3 요청 생성 (여러 구간 요청은 S3가 지원하지 않으므로 무시하고 전체 응답)
+			GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
 					.bucket(awsS3Properties.getBucket())
-					.key(s3Key)  // storedFileName 대신 추출된 키 사용
-					.build();
+					.key(s3Key);  // storedFileName 대신 추출된 키 사용
+			if (range != null && SINGLE_RANGE_PATTERN.matcher(range).matches()) {
+				requestBuilder.range(range);
+			}
+			if (ifNoneMatch != null) {
+				requestBuilder.ifNoneMatch(ifNoneMatch);
+			}
 			log.info("Requesting from S3 bucket: {}, key: {}", awsS3Properties.getBucket(), s3Key);
 
+			ResponseInputStream<GetObjectResponse> objectStream;
 			try {
-				ResponseBytes<GetObjectResponse> objectBytes = s3Client.getObjectAsBytes(getObjectRequest);
-				byte[] data = objectBytes.asByteArray();
-				log.info("Successfully retrieved file from S3. Size: {} bytes", data.length);
-
-				ByteArrayResource resource = new ByteArrayResource(data);
-
-				// 파일명 인코딩
-				String encodedFileName = URLEncoder.encode(noticeFile.getOriginalFileName(), StandardCharsets.UTF_8)
-						.replaceAll("\\+", "%20");
-
-				return ResponseEntity.ok()
-						.contentType(MediaType.APPLICATION_OCTET_STREAM)
-						.contentLength(data.length)
-						.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-						.header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION)
-						.body(resource);
-
-			} catch (Exception s3Error) {
+				objectStream = s3Client.getObject(requestBuilder.build());
+			} catch (S3Exception s3Error) {
+				if (s3Error.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+					return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+							.eTag(ifNoneMatch)
+							.build();
+				}
+				if (s3Error.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+					return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
+				}
 				log.error("Error retrieving file from S3. Bucket: {}, Key: {}, Error: {}",
 						awsS3Properties.getBucket(), s3Key, s3Error.getMessage());
 				throw new RuntimeException("Failed to retrieve file from S3", s3Error);
 			}
 
+			GetObjectResponse object = objectStream.response();
+			boolean partial = object.contentRange() != null;
+			log.info("Streaming file from S3. Size: {} bytes, partial: {}", object.contentLength(), partial);
+
+			// 파일명 인코딩
+			String encodedFileName = URLEncoder.encode(noticeFile.getOriginalFileName(), StandardCharsets.UTF_8)
+					.replaceAll("\\+", "%20");
+
+			HttpStatus status = partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK;
+			ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+					.contentType(MediaType.APPLICATION_OCTET_STREAM)
+					.contentLength(object.contentLength())
+					.cacheControl(CacheControl.noCache().cachePrivate())
+					.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+					.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
+					.header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.CONTENT_DISPOSITION);
+			if (object.eTag() != null) {
+				response.eTag(object.eTag());
+			}
+			if (partial) {
+				response.header(HttpHeaders.CONTENT_RANGE, object.contentRange());
+			}
+
+			// 응답 작성 후 스트림을 닫아 S3 연결을 반환
+			return response.body(outputStream -> {
+				try (objectStream) {
+					objectStream.transferTo(outputStream);
+				}
+			});
+
 		} catch (EntityNotFoundException e) {
 			log.error("File not found: {}", e.getMessage());
 			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
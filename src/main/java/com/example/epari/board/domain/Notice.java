@@ -62,10 +62,6 @@ public class Notice extends BaseTimeEntity {
 		this.viewCount = 0;
 	}
 
-	public void increaseViewCount() {
-		this.viewCount++;
-	}
-
 	public void update(String title, String content) {
 		this.title = title;
 		this.content = content;
@@ -0,0 +1,44 @@
+package com.example.epari.board.domain;
+
+import com.example.epari.global.common.base.BaseTimeEntity;
+import com.example.epari.global.common.enums.ViewCountTarget;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB에 반영된 조회수 증가분 묶음 기록
+ * 증가분 반영과 같은 트랜잭션에 저장하여, 반영 후 Redis 정리에 실패한 묶음이 다시 반영되지 않도록 함
+ */
+@Entity
+@Table(name = "view_count_flush")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ViewCountFlush extends BaseTimeEntity {
+
+	// 반영 묶음 ID (Redis 반영 중 해시에 기록된 값)
+	@Id
+	@Column(length = 36)
+	private String batchId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private ViewCountTarget target;
+
+	private ViewCountFlush(String batchId, ViewCountTarget target) {
+		this.batchId = batchId;
+		this.target = target;
+	}
+
+	public static ViewCountFlush of(String batchId, ViewCountTarget target) {
+		return new ViewCountFlush(batchId, target);
+	}
+
+}
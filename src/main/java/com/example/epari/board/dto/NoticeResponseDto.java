@@ -7,6 +7,7 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -47,7 +48,8 @@ public class NoticeResponseDto {
 		this.files = files;
 	}
 
-	public static List<NoticeResponseDto> fromNotices(List<Notice> notices) {
+	// 아직 DB에 반영되지 않은 조회수 증가분을 더하여 변환 (공지사항 ID -> 증가분)
+	public static List<NoticeResponseDto> fromNotices(List<Notice> notices, Map<Long, Long> pendingViewCounts) {
 		AtomicLong counter = new AtomicLong(notices.size());
 
 		return notices.stream()
@@ -57,7 +59,8 @@ public class NoticeResponseDto {
 						.title(notice.getTitle())
 						.content(notice.getContent())
 						.type(notice.getType())
-						.viewCount(notice.getViewCount())
+						.viewCount(notice.getViewCount()
+								+ pendingViewCounts.getOrDefault(notice.getId(), 0L).intValue())
 						.createdAt(notice.getCreatedAt())
 						.instructorName(notice.getInstructor().getName())
 						.files(notice.getFiles().stream()
@@ -0,0 +1,18 @@
+package com.example.epari.board.repository;
+
+import com.example.epari.board.domain.BoardQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BoardQuestionRepository extends JpaRepository<BoardQuestion, Long> {
+
+	// 조회수 증가분 반영 (엔티티를 조회하지 않고 단일 UPDATE로 반영)
+	@Modifying
+	@Query("UPDATE BoardQuestion q SET q.viewCount = q.viewCount + :delta WHERE q.id = :id")
+	int increaseViewCount(@Param("id") Long id, @Param("delta") int delta);
+
+}
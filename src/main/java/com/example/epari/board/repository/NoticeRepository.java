@@ -3,6 +3,9 @@ package com.example.epari.board.repository;
 import com.example.epari.board.domain.Notice;
 import com.example.epari.global.common.enums.NoticeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +22,9 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
 	Optional<Notice> findByIdAndType(Long id, NoticeType type);
 
+	// 조회수 증가분 반영 (엔티티를 조회하지 않고 단일 UPDATE로 반영)
+	@Modifying
+	@Query("UPDATE Notice n SET n.viewCount = n.viewCount + :delta WHERE n.id = :id")
+	int increaseViewCount(@Param("id") Long id, @Param("delta") int delta);
+
 }
@@ -0,0 +1,178 @@
+package com.example.epari.board.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.example.epari.global.common.enums.ViewCountTarget;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회수 증가분 버퍼
+ * 조회수 증가분을 대상별 Redis 해시(엔티티 ID -> 증가분)에 누적하고, 주기적으로 DB에 일괄 반영
+ * 반영 시 누적 해시를 반영 중 해시로 옮기면서 반영 묶음 ID를 기록하고, DB 반영이 끝난 뒤 삭제
+ * DB 반영 전에 실패하면 다음 주기에 같은 묶음을 다시 반영하고, 반영 후 삭제에 실패한 묶음은 DB의 반영 기록으로 걸러냄
+ */
+@Repository
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+	private static final String PENDING_KEY_PREFIX = "epari::view-count::pending::";
+
+	private static final String FLUSHING_KEY_PREFIX = "epari::view-count::flushing::";
+
+	private static final String FLUSH_LOCK_KEY = "epari::view-count::flush-lock";
+
+	// 반영 중 해시에 함께 저장하는 반영 묶음 ID 필드
+	private static final String BATCH_FIELD = "batch";
+
+	// 반영 중 해시가 없을 때만 누적 해시를 옮기고 묶음 ID 기록 (이전 반영이 끝나지 않았으면 남아 있는 묶음을 다시 반환)
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> PREPARE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[2]) == 0 and redis.call('exists', KEYS[1]) == 1 then "
+					+ "redis.call('rename', KEYS[1], KEYS[2]) end "
+					+ "if redis.call('exists', KEYS[2]) == 1 then "
+					+ "redis.call('hsetnx', KEYS[2], ARGV[1], ARGV[2]) end "
+					+ "return redis.call('hgetall', KEYS[2])",
+			List.class);
+
+	// 반영 중 해시가 해당 묶음일 때만 삭제
+	private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('hget', KEYS[1], ARGV[1]) == ARGV[2] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	// 락 소유자가 자신일 때만 해제
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// 조회수 증가분 누적
+	public void increment(ViewCountTarget target, Long id) {
+		redisTemplate.opsForHash().increment(pendingKey(target), id.toString(), 1);
+	}
+
+	// 아직 반영을 시작하지 않은 누적 증가분 조회 (엔티티 ID -> 증가분)
+	public Map<Long, Long> findPendingCounts(ViewCountTarget target, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Object> fields = new ArrayList<>();
+		ids.forEach(id -> fields.add(id.toString()));
+		return toCounts(ids, redisTemplate.opsForHash().multiGet(pendingKey(target), fields));
+	}
+
+	// 반영 중인 묶음의 증가분 조회 (반영 중 해시가 없으면 null)
+	public FlushBatch findFlushingCounts(ViewCountTarget target, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return null;
+		}
+
+		List<Object> fields = new ArrayList<>();
+		fields.add(BATCH_FIELD);
+		ids.forEach(id -> fields.add(id.toString()));
+		List<Object> values = redisTemplate.opsForHash().multiGet(flushingKey(target), fields);
+		if (values.get(0) == null) {
+			return null;
+		}
+		return new FlushBatch(values.get(0).toString(), toCounts(ids, values.subList(1, values.size())));
+	}
+
+	// 반영할 증가분 묶음 조회 (누적 해시를 반영 중 해시로 옮긴 뒤 반환, 반영할 증가분이 없으면 null)
+	public FlushBatch prepareFlush(ViewCountTarget target, String newBatchId) {
+		List<?> entries = redisTemplate.execute(PREPARE_FLUSH_SCRIPT,
+				List.of(pendingKey(target), flushingKey(target)), BATCH_FIELD, newBatchId);
+		if (entries == null || entries.isEmpty()) {
+			return null;
+		}
+
+		String batchId = newBatchId;
+		Map<Long, Long> deltas = new HashMap<>();
+		for (int i = 0; i + 1 < entries.size(); i += 2) {
+			String field = entries.get(i).toString();
+			if (BATCH_FIELD.equals(field)) {
+				batchId = entries.get(i + 1).toString();
+			} else {
+				deltas.put(Long.valueOf(field), toLong(entries.get(i + 1)));
+			}
+		}
+		return new FlushBatch(batchId, deltas);
+	}
+
+	// DB 반영이 끝난 묶음 삭제
+	public void completeFlush(ViewCountTarget target, String batchId) {
+		redisTemplate.execute(COMPLETE_FLUSH_SCRIPT, Collections.singletonList(flushingKey(target)),
+				BATCH_FIELD, batchId);
+	}
+
+	// 반영 작업 락 획득 (여러 노드가 같은 증가분을 중복 반영하지 않도록 함)
+	public boolean tryLockFlush(String token, Duration timeout) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, timeout));
+	}
+
+	public void unlockFlush(String token) {
+		redisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(FLUSH_LOCK_KEY), token);
+	}
+
+	private Map<Long, Long> toCounts(Collection<Long> ids, List<Object> values) {
+		Map<Long, Long> counts = new HashMap<>();
+		int index = 0;
+		for (Long id : ids) {
+			long count = toLong(values.get(index++));
+			if (count > 0) {
+				counts.put(id, count);
+			}
+		}
+		return counts;
+	}
+
+	private long toLong(Object value) {
+		return value != null ? Long.parseLong(value.toString()) : 0L;
+	}
+
+	private String pendingKey(ViewCountTarget target) {
+		return PENDING_KEY_PREFIX + target.name().toLowerCase();
+	}
+
+	private String flushingKey(ViewCountTarget target) {
+		return FLUSHING_KEY_PREFIX + target.name().toLowerCase();
+	}
+
+	/*
+	 * 반영 중인 증가분 묶음
+	 */
+	public static class FlushBatch {
+
+		private final String batchId;
+
+		// 엔티티 ID -> 증가분
+		private final Map<Long, Long> deltas;
+
+		FlushBatch(String batchId, Map<Long, Long> deltas) {
+			this.batchId = batchId;
+			this.deltas = deltas;
+		}
+
+		public String getBatchId() {
+			return batchId;
+		}
+
+		public Map<Long, Long> getDeltas() {
+			return deltas;
+		}
+
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.example.epari.board.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.epari.board.domain.ViewCountFlush;
+
+public interface ViewCountFlushRepository extends JpaRepository<ViewCountFlush, String> {
+
+	// 보관 기간이 지난 반영 기록 삭제
+	@Modifying
+	@Query("DELETE FROM ViewCountFlush f WHERE f.createdAt < :before")
+	int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+}
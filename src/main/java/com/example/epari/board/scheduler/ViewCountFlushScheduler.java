@@ -0,0 +1,96 @@
+package com.example.epari.board.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.epari.board.repository.ViewCountBuffer;
+import com.example.epari.board.service.ViewCountService;
+import com.example.epari.global.common.enums.ViewCountTarget;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 조회수 반영 스케줄러
+ * Redis에 누적된 조회수 증가분을 주기적으로 DB에 일괄 반영
+ * 여러 노드 중 락을 획득한 노드만 반영하며, 반영에 실패한 증가분은 Redis에 남아 다음 주기에 다시 반영됨
+ * 반영 후 Redis 정리에 실패한 묶음은 DB의 반영 기록으로 확인하여 다시 반영하지 않고 정리만 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+	// 반영 작업이 비정상 종료되어도 락이 자동 해제되는 시간
+	private static final Duration FLUSH_LOCK_TIMEOUT = Duration.ofMinutes(1);
+
+	// 반영 기록 보관 기간 (Redis 정리에 계속 실패한 묶음을 걸러낼 수 있는 기간)
+	private static final Duration FLUSH_RECORD_RETENTION = Duration.ofDays(7);
+
+	private final ViewCountBuffer viewCountBuffer;
+
+	private final ViewCountService viewCountService;
+
+	// 10초마다 실행
+	@Scheduled(fixedDelay = 10000, initialDelay = 10000)
+	public void flushViewCounts() {
+		String token = UUID.randomUUID().toString();
+		try {
+			if (!viewCountBuffer.tryLockFlush(token, FLUSH_LOCK_TIMEOUT)) {
+				return;
+			}
+		} catch (Exception e) {
+			log.warn("Failed to acquire view count flush lock", e);
+			return;
+		}
+
+		try {
+			for (ViewCountTarget target : ViewCountTarget.values()) {
+				flush(target);
+			}
+		} finally {
+			try {
+				viewCountBuffer.unlockFlush(token);
+			} catch (Exception e) {
+				log.warn("Failed to release view count flush lock", e);
+			}
+		}
+	}
+
+	// 하루 한 번 보관 기간이 지난 반영 기록 삭제
+	@Scheduled(cron = "0 30 4 * * *")
+	public void deleteOldFlushRecords() {
+		try {
+			int deleted = viewCountService.deleteFlushRecordsBefore(LocalDateTime.now().minus(FLUSH_RECORD_RETENTION));
+			log.debug("Old view count flush records deleted - count: {}", deleted);
+		} catch (Exception e) {
+			log.warn("Failed to delete old view count flush records", e);
+		}
+	}
+
+	private void flush(ViewCountTarget target) {
+		try {
+			ViewCountBuffer.FlushBatch batch = viewCountBuffer.prepareFlush(target, UUID.randomUUID().toString());
+			if (batch == null) {
+				return;
+			}
+
+			int appliedCount = batch.getDeltas().isEmpty()
+					? 0 : viewCountService.applyDeltas(target, batch.getBatchId(), batch.getDeltas());
+			viewCountBuffer.completeFlush(target, batch.getBatchId());
+			if (appliedCount < 0) {
+				log.info("View count batch already applied, cleared - target: {}, batch: {}", target,
+						batch.getBatchId());
+			} else {
+				log.debug("View counts flushed - target: {}, entities: {}", target, appliedCount);
+			}
+		} catch (Exception e) {
+			log.error("Failed to flush view counts - target: " + target, e);
+		}
+	}
+
+}
@@ -8,16 +8,24 @@ import com.example.epari.board.repository.NoticeFileRepository;
 import com.example.epari.board.repository.NoticeRepository;
 import com.example.epari.course.domain.Course;
 import com.example.epari.course.repository.CourseRepository;
+import com.example.epari.course.service.CourseMembershipCache;
 import com.example.epari.global.common.enums.NoticeType;
+import com.example.epari.global.common.enums.ViewCountTarget;
+import com.example.epari.global.common.service.FileDeletionService;
 import com.example.epari.global.common.service.S3FileService;
 import com.example.epari.global.config.aws.AwsS3Properties;
+import com.example.epari.global.event.DashboardChangedEvent;
+import com.example.epari.global.exception.course.CourseInstructorMismatchException;
 import com.example.epari.user.domain.Instructor;
 import com.example.epari.user.repository.InstructorRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Duration;
@@ -41,55 +49,87 @@ public class NoticeService {
 
 	private final S3FileService s3FileService;
 
+	private final FileDeletionService fileDeletionService;
+
 	private final AwsS3Properties awsS3Properties;
 
+	private final ViewCountService viewCountService;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final CourseMembershipCache courseMembershipCache;
+
 	// 공지사항 작성
-	@Transactional
+	// 강의/강사를 먼저 확인한 뒤 파일을 트랜잭션 밖에서 병렬로 업로드하고, 저장에 실패하면 업로드한 파일 삭제
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Long createNotice(NoticeRequestDto requestDto) {
-		try {
-			Course course = courseRepository.findById(requestDto.getCourseId())
-					.orElseThrow(() -> new EntityNotFoundException("Course not found"));
-
-			Instructor instructor = instructorRepository.findById(requestDto.getInstructorId())
-					.orElseThrow(() -> new EntityNotFoundException("Instructor not found"));
-
-			Notice notice = noticeRepository.save(Notice.builder()
-					.title(requestDto.getTitle())
-					.content(requestDto.getContent())
-					.type(requestDto.getType())
-					.course(course)
-					.instructor(instructor)
-					.build());
-
-			// S3에 파일 업로드 및 NoticeFile 엔티티 생성
-			// 파일 업로드 부분
-			if (requestDto.getFiles() != null && !requestDto.getFiles().isEmpty()) {
-				for (MultipartFile file : requestDto.getFiles()) {
-					// S3에 파일 업로드
-					String s3Key = generateS3Key(file.getOriginalFilename());
-					String fileUrl = s3FileService.uploadFile("notices/files", file);
-
-					log.info("File uploaded to S3. Key: {}, URL: {}", s3Key, fileUrl);
-
-					// NoticeFile 엔티티 생성 및 저장
-					NoticeFile noticeFile = NoticeFile.createNoticeFile(
-							file.getOriginalFilename(),
-							s3Key,  // 여기서 S3 키를 정확히 저장
-							fileUrl,
-							file.getSize(),
-							notice
-					);
-					noticeFileRepository.save(noticeFile);
-				}
-			}
+		validateCourseInstructor(requestDto.getCourseId(), requestDto.getInstructorId());
 
-			return notice.getId();
+		List<String> fileUrls = List.of();
+		try {
+			fileUrls = s3FileService.uploadFiles("notices/files", requestDto.getFiles());
+			List<String> uploadedUrls = fileUrls;
+			return transactionTemplate.execute(status -> saveNotice(requestDto, uploadedUrls));
 		} catch (Exception e) {
+			s3FileService.deleteFilesQuietly(fileUrls);
 			log.error("Error creating notice", e);
 			throw new RuntimeException("공지사항 생성 중 오류가 발생했습니다.", e);
 		}
 	}
 
+	// 업로드 전 검증 (강의/강사 존재, 담당 강사 여부)
+	private void validateCourseInstructor(Long courseId, Long instructorId) {
+		if (!courseRepository.existsById(courseId)) {
+			throw new EntityNotFoundException("Course not found");
+		}
+		if (!instructorRepository.existsById(instructorId)) {
+			throw new EntityNotFoundException("Instructor not found");
+		}
+		if (!courseMembershipCache.isInstructor(courseId, instructorId)) {
+			throw new CourseInstructorMismatchException();
+		}
+	}
+
+	private Long saveNotice(NoticeRequestDto requestDto, List<String> fileUrls) {
+		Course course = courseRepository.findById(requestDto.getCourseId())
+				.orElseThrow(() -> new EntityNotFoundException("Course not found"));
+
+		Instructor instructor = instructorRepository.findById(requestDto.getInstructorId())
+				.orElseThrow(() -> new EntityNotFoundException("Instructor not found"));
+
+		Notice notice = noticeRepository.save(Notice.builder()
+				.title(requestDto.getTitle())
+				.content(requestDto.getContent())
+				.type(requestDto.getType())
+				.course(course)
+				.instructor(instructor)
+				.build());
+
+		// 업로드된 파일의 NoticeFile 엔티티 생성
+		for (int i = 0; i < fileUrls.size(); i++) {
+			MultipartFile file = requestDto.getFiles().get(i);
+			String s3Key = generateS3Key(file.getOriginalFilename());
+			String fileUrl = fileUrls.get(i);
+
+			log.info("File uploaded to S3. Key: {}, URL: {}", s3Key, fileUrl);
+
+			// NoticeFile 엔티티 생성 및 저장
+			NoticeFile noticeFile = NoticeFile.createNoticeFile(
+					file.getOriginalFilename(),
+					s3Key,  // 여기서 S3 키를 정확히 저장
+					fileUrl,
+					file.getSize(),
+					notice
+			);
+			noticeFileRepository.save(noticeFile);
+		}
+
+		eventPublisher.publishEvent(DashboardChangedEvent.course(course.getId()));
+		return notice.getId();
+	}
+
 	// 공지사항 수정
 	@Transactional
 	public Long updateNotice(Long id, NoticeRequestDto requestDto) {
@@ -102,37 +142,41 @@ public class NoticeService {
 
 			// 기존 파일 삭제
 			if (requestDto.getDeleteFileIds() != null && !requestDto.getDeleteFileIds().isEmpty()) {
+				List<String> deletedFileUrls = new ArrayList<>();
 				for (Long fileId : requestDto.getDeleteFileIds()) {
 					NoticeFile existingFile = noticeFileRepository.findById(fileId)
 							.orElseThrow(() -> new EntityNotFoundException("File not found: " + fileId));
 
-					// S3에서 파일 삭제
-					s3FileService.deleteFile(existingFile.getFileUrl());
+					deletedFileUrls.add(existingFile.getFileUrl());
 					noticeFileRepository.delete(existingFile);
 					notice.getFiles().remove(existingFile);
 				}
+				// S3 파일 삭제 예약
+				fileDeletionService.deleteLater(deletedFileUrls);
 			}
 
-			// 새 파일 업로드
-			if (requestDto.getFiles() != null && !requestDto.getFiles().isEmpty()) {
-				for (MultipartFile file : requestDto.getFiles()) {
-					// S3에 파일 업로드
-					String s3Key = generateS3Key(file.getOriginalFilename());
-					String fileUrl = s3FileService.uploadFile("notices/files", file);
-
-					// NoticeFile 엔티티 생성 및 저장
-					NoticeFile noticeFile = NoticeFile.createNoticeFile(
-							file.getOriginalFilename(),
-							s3Key,
-							fileUrl,
-							file.getSize(),
-							notice
-					);
-					NoticeFile savedFile = noticeFileRepository.save(noticeFile);
-					notice.getFiles().add(savedFile);
-				}
+			// 새 파일 병렬 업로드
+			List<String> fileUrls = s3FileService.uploadFiles("notices/files", requestDto.getFiles());
+			for (int i = 0; i < fileUrls.size(); i++) {
+				MultipartFile file = requestDto.getFiles().get(i);
+				String s3Key = generateS3Key(file.getOriginalFilename());
+				String fileUrl = fileUrls.get(i);
+
+				// NoticeFile 엔티티 생성 및 저장
+				NoticeFile noticeFile = NoticeFile.createNoticeFile(
+						file.getOriginalFilename(),
+						s3Key,
+						fileUrl,
+						file.getSize(),
+						notice
+				);
+				NoticeFile savedFile = noticeFileRepository.save(noticeFile);
+				notice.getFiles().add(savedFile);
 			}
 
+			// 강의가 변경되면 이전 강의의 대시보드도 갱신
+			Long previousCourseId = notice.getCourse().getId();
+
 			// 공지사항 정보 업데이트
 			notice.update(
 					requestDto.getTitle(),
@@ -141,6 +185,10 @@ public class NoticeService {
 					course
 			);
 
+			eventPublisher.publishEvent(DashboardChangedEvent.course(course.getId()));
+			if (!previousCourseId.equals(course.getId())) {
+				eventPublisher.publishEvent(DashboardChangedEvent.course(previousCourseId));
+			}
 			return notice.getId();
 		} catch (EntityNotFoundException e) {
 			throw e;
@@ -164,14 +212,16 @@ public class NoticeService {
 
 			// 1. 첨부 파일 삭제
 			List<NoticeFile> attachments = noticeFileRepository.findByNoticeId(noticeId);
-			deleteFiles(attachments);
+			noticeFileRepository.deleteAll(attachments);
 
-			// 2. 본문 내 이미지 URL 추출 및 삭제
-			Set<String> contentImageUrls = extractImageUrlsFromContent(notice.getContent());
-			deleteContentImages(contentImageUrls);
+			// 2. 첨부 파일과 본문 내 이미지의 S3 삭제를 한 번에 예약 (커밋 후 백그라운드에서 일괄 삭제)
+			List<String> fileUrls = new ArrayList<>(attachments.stream().map(NoticeFile::getFileUrl).toList());
+			fileUrls.addAll(extractImageUrlsFromContent(notice.getContent()));
+			fileDeletionService.deleteLater(fileUrls);
 
 			// 3. Notice 엔티티 삭제
 			noticeRepository.delete(notice);
+			eventPublisher.publishEvent(DashboardChangedEvent.course(notice.getCourse().getId()));
 
 			log.info("Successfully deleted notice and all associated files. Notice ID: {}", noticeId);
 		} catch (Exception e) {
@@ -180,21 +230,6 @@ public class NoticeService {
 		}
 	}
 
-	private void deleteFiles(List<NoticeFile> files) {
-		for (NoticeFile file : files) {
-			try {
-				String fileUrl = file.getFileUrl();
-				log.info("Attempting to delete attachment: {}", fileUrl);
-				s3FileService.deleteFile(fileUrl);
-				noticeFileRepository.delete(file);
-				log.info("Successfully deleted attachment: {}", fileUrl);
-			} catch (Exception e) {
-				log.error("Failed to delete attachment: {}", file.getFileUrl(), e);
-				// 개별 파일 삭제 실패 시에도 계속 진행
-			}
-		}
-	}
-
 	private Set<String> extractImageUrlsFromContent(String content) {
 		Set<String> imageUrls = new HashSet<>();
 		if (content == null || content.isEmpty()) {
@@ -219,19 +254,6 @@ public class NoticeService {
 		return imageUrls;
 	}
 
-	private void deleteContentImages(Set<String> imageUrls) {
-		for (String imageUrl : imageUrls) {
-			try {
-				log.info("Attempting to delete content image: {}", imageUrl);
-				s3FileService.deleteFile(imageUrl);
-				log.info("Successfully deleted content image: {}", imageUrl);
-			} catch (Exception e) {
-				log.error("Failed to delete content image: {}", imageUrl, e);
-				// 개별 이미지 삭제 실패 시에도 계속 진행
-			}
-		}
-	}
-
 	// 단일 공지사항 조회
 	@Transactional(readOnly = true)
 	public NoticeResponseDto getNotice(Long noticeId) {
@@ -239,22 +261,17 @@ public class NoticeService {
 			Notice notice = noticeRepository.findById(noticeId)
 					.orElseThrow(() -> new EntityNotFoundException("Notice not found"));
 
-			// 파일들의 Presigned URL 생성
+			// 파일들의 Presigned URL 일괄 생성 (서명에 실패한 파일은 원본 URL 유지)
 			if (notice.getFiles() != null && !notice.getFiles().isEmpty()) {
+				Map<String, String> presignedUrls = s3FileService.generatePresignedUrls(
+						notice.getFiles().stream().map(NoticeFile::getFileUrl).toList(), Duration.ofHours(1));
 				for (NoticeFile file : notice.getFiles()) {
-					try {
-						String presignedUrl = s3FileService.generatePresignedUrl(file.getFileUrl(), Duration.ofHours(1));
-						file.updateFileUrl(presignedUrl);
-					} catch (Exception e) {
-						log.error("Error generating presigned URL for file: " + file.getOriginalFileName(), e);
-						// 파일 URL을 원본 URL로 유지
-						file.updateFileUrl(file.getFileUrl());
-					}
+					file.updateFileUrl(presignedUrls.getOrDefault(file.getFileUrl(), file.getFileUrl()));
 				}
 			}
 
 			List<Notice> singletonList = Collections.singletonList(notice);
-			return NoticeResponseDto.fromNotices(singletonList).get(0);
+			return toResponseDtos(singletonList).get(0);
 		} catch (EntityNotFoundException e) {
 			throw e;
 		} catch (Exception e) {
@@ -263,15 +280,15 @@ public class NoticeService {
 		}
 	}
 
-	// 조회수 증가
+	// 조회수 증가 (증가분은 Redis에 누적 후 주기적으로 일괄 반영)
 	@Transactional
 	public void increaseViewCount(Long noticeId) {
 		try {
-			Notice notice = noticeRepository.findById(noticeId)
-					.orElseThrow(() -> new EntityNotFoundException("Notice not found"));
+			if (!noticeRepository.existsById(noticeId)) {
+				throw new EntityNotFoundException("Notice not found");
+			}
 
-			notice.increaseViewCount();
-			noticeRepository.save(notice);
+			viewCountService.increase(ViewCountTarget.NOTICE, noticeId);
 		} catch (EntityNotFoundException e) {
 			throw e;
 		} catch (Exception e) {
@@ -284,7 +301,7 @@ public class NoticeService {
 	public List<NoticeResponseDto> getGlobalNotices() {
 		try {
 			List<Notice> notices = noticeRepository.findByTypeOrderByCreatedAtDesc(NoticeType.GLOBAL);
-			return NoticeResponseDto.fromNotices(notices);
+			return toResponseDtos(notices);
 		} catch (Exception e) {
 			log.error("Error fetching global notices", e);
 			throw new RuntimeException("전체 공지사항 조회 중 오류가 발생했습니다.", e);
@@ -295,13 +312,20 @@ public class NoticeService {
 	public List<NoticeResponseDto> getCourseNotices(Long courseId) {
 		try {
 			List<Notice> notices = noticeRepository.findByCourseIdAndTypeOrderByCreatedAtDesc(courseId, NoticeType.COURSE);
-			return NoticeResponseDto.fromNotices(notices);
+			return toResponseDtos(notices);
 		} catch (Exception e) {
 			log.error("Error fetching course notices: " + courseId, e);
 			throw new RuntimeException("강의 공지사항 조회 중 오류가 발생했습니다.", e);
 		}
 	}
 
+	// 반영 대기 중인 조회수를 포함하여 응답 변환
+	private List<NoticeResponseDto> toResponseDtos(List<Notice> notices) {
+		Map<Long, Long> pendingViewCounts = viewCountService.getPendingCounts(ViewCountTarget.NOTICE,
+				notices.stream().map(Notice::getId).toList());
+		return NoticeResponseDto.fromNotices(notices, pendingViewCounts);
+	}
+
 	// S3 URL에서 key 추출
 	private String extractKeyFromUrl(String fileUrl) {
 		String prefix = String.format("https://%s.s3.%s.amazonaws.com/",
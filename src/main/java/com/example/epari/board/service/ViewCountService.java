@@ -0,0 +1,100 @@
+package com.example.epari.board.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.epari.board.domain.ViewCountFlush;
+import com.example.epari.board.repository.BoardQuestionRepository;
+import com.example.epari.board.repository.NoticeRepository;
+import com.example.epari.board.repository.ViewCountBuffer;
+import com.example.epari.board.repository.ViewCountFlushRepository;
+import com.example.epari.global.common.enums.ViewCountTarget;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회수 집계 서비스
+ * 조회마다 엔티티를 조회/저장하는 대신 Redis에 증가분을 누적하고, 스케줄러가 엔티티당 한 번의 UPDATE로 반영
+ * 화면에 표시하는 조회수는 DB 값에 아직 반영되지 않은 증가분을 더해 바로 반영된 것처럼 보이도록 함
+ * 증가분은 묶음 단위로 반영 기록과 함께 저장하므로 같은 묶음이 두 번 반영되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+	private final ViewCountBuffer viewCountBuffer;
+
+	private final NoticeRepository noticeRepository;
+
+	private final BoardQuestionRepository boardQuestionRepository;
+
+	private final ViewCountFlushRepository viewCountFlushRepository;
+
+	// 조회수 증가 (Redis 장애 시 DB에 바로 반영)
+	@Transactional
+	public void increase(ViewCountTarget target, Long id) {
+		try {
+			viewCountBuffer.increment(target, id);
+		} catch (DataAccessException e) {
+			log.warn("Failed to buffer view count, applying directly - target: {}, id: {}", target, id, e);
+			applyDelta(target, id, 1);
+		}
+	}
+
+	// 아직 반영되지 않은 증가분 조회 (Redis 장애 시 DB 값만 표시)
+	// 반영 중인 묶음은 DB에 반영 기록이 없을 때만 더함 (반영 후 Redis 정리 전에 두 번 더해지지 않도록 함)
+	public Map<Long, Long> getPendingCounts(ViewCountTarget target, Collection<Long> ids) {
+		try {
+			Map<Long, Long> counts = new HashMap<>(viewCountBuffer.findPendingCounts(target, ids));
+			ViewCountBuffer.FlushBatch flushing = viewCountBuffer.findFlushingCounts(target, ids);
+			if (flushing != null && !flushing.getDeltas().isEmpty()
+					&& !viewCountFlushRepository.existsById(flushing.getBatchId())) {
+				flushing.getDeltas().forEach((id, delta) -> counts.merge(id, delta, Long::sum));
+			}
+			return counts;
+		} catch (DataAccessException e) {
+			log.warn("Failed to read pending view counts - target: {}", target, e);
+			return Map.of();
+		}
+	}
+
+	// 증가분 묶음 일괄 반영 (반영한 엔티티 수 반환, 이미 반영된 묶음이면 -1)
+	// 반영 기록을 같은 트랜잭션에 저장하므로, 커밋 후 Redis 정리에 실패해 같은 묶음을 다시 받아도 중복 반영되지 않음
+	@Transactional
+	public int applyDeltas(ViewCountTarget target, String batchId, Map<Long, Long> deltas) {
+		if (viewCountFlushRepository.existsById(batchId)) {
+			return -1;
+		}
+
+		viewCountFlushRepository.save(ViewCountFlush.of(batchId, target));
+		int appliedCount = 0;
+		for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+			if (entry.getValue() > 0) {
+				appliedCount += applyDelta(target, entry.getKey(), Math.toIntExact(entry.getValue()));
+			}
+		}
+		return appliedCount;
+	}
+
+	// 보관 기간이 지난 반영 기록 삭제
+	@Transactional
+	public int deleteFlushRecordsBefore(LocalDateTime before) {
+		return viewCountFlushRepository.deleteCreatedBefore(before);
+	}
+
+	private int applyDelta(ViewCountTarget target, Long id, int delta) {
+		return switch (target) {
+			case NOTICE -> noticeRepository.increaseViewCount(id, delta);
+			case BOARD_QUESTION -> boardQuestionRepository.increaseViewCount(id, delta);
+		};
+	}
+
+}
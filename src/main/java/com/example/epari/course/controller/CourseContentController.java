@@ -24,6 +24,7 @@ import com.example.epari.course.dto.content.CourseContentResponseDto;
 import com.example.epari.course.dto.content.CourseContentSearchRequestDto;
 import com.example.epari.course.dto.content.PageResponse;
 import com.example.epari.course.service.CourseContentService;
+import com.example.epari.global.annotation.CurrentUserEmail;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -45,10 +46,11 @@ public class CourseContentController {
 	 * 강사가 파일 업로드
 	 */
 	@PostMapping
-	@PreAuthorize("hasRole('INSTRUCTOR')")
+	@PreAuthorize("hasRole('INSTRUCTOR') and @courseSecurityChecker.checkInstructorAccess(#courseId, #instructorEmail)")
 	public ResponseEntity<CourseContentResponseDto> uploadContent(
 			@PathVariable Long courseId,
-			@Valid @ModelAttribute CourseContentRequestDto.Upload request) {
+			@Valid @ModelAttribute CourseContentRequestDto.Upload request,
+			@CurrentUserEmail String instructorEmail) {
 		log.info("Content upload request received for course: {}", courseId);
 		request.setDate(LocalDate.now());
 		return ResponseEntity.ok(courseContentService.uploadContent(courseId, request));
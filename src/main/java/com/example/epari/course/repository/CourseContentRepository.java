@@ -1,12 +1,14 @@
 package com.example.epari.course.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -29,6 +31,24 @@ public interface CourseContentRepository extends JpaRepository<CourseContent, Lo
 			@Param("courseId") Long courseId
 	);
 
+	// 특정 강의의 여러 강의 자료를 첨부 파일과 함께 조회
+	@Query("SELECT DISTINCT lc FROM CourseContent lc LEFT JOIN FETCH lc.files "
+			+ "WHERE lc.id IN :contentIds AND lc.course.id = :courseId")
+	List<CourseContent> findAllWithFilesByIdInAndCourseId(
+			@Param("contentIds") Collection<Long> contentIds,
+			@Param("courseId") Long courseId
+	);
+
+	// 여러 강의 자료의 첨부 파일 일괄 삭제
+	@Modifying
+	@Query("DELETE FROM CourseContentFile f WHERE f.courseContent.id IN :contentIds")
+	int deleteFilesByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+
+	// 여러 강의 자료 일괄 삭제 (첨부 파일을 먼저 삭제해야 함)
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM CourseContent lc WHERE lc.id IN :contentIds")
+	int deleteAllByIdIn(@Param("contentIds") Collection<Long> contentIds);
+
 	// 특정 날짜의 강의 자료 조회
 	@Query("SELECT lc FROM CourseContent lc WHERE lc.course.id = :courseId AND lc.date = :date")
 	List<CourseContent> findByCourseIdAndDate(
@@ -2,14 +2,19 @@ package com.example.epari.course.service;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.epari.course.domain.Course;
@@ -23,11 +28,12 @@ import com.example.epari.course.dto.content.CourseContentSearchRequestDto;
 import com.example.epari.course.dto.content.PageResponse;
 import com.example.epari.course.repository.CourseContentRepository;
 import com.example.epari.course.repository.CourseRepository;
+import com.example.epari.global.common.service.FileDeletionService;
 import com.example.epari.global.common.service.S3FileService;
+import com.example.epari.global.event.DashboardChangedEvent;
 import com.example.epari.global.exception.course.CourseNotFoundException;
 import com.example.epari.global.exception.file.CourseContentNotFoundException;
 import com.example.epari.global.exception.file.CourseFileNotFoundException;
-import com.example.epari.global.exception.file.FileDeleteFailedException;
 import com.example.epari.global.exception.file.FileDownloadFailedException;
 import com.example.epari.global.exception.file.FileUploadFailedException;
 
@@ -50,14 +56,47 @@ public class CourseContentService {
 
 	private final S3FileService s3FileService;
 
+	private final FileDeletionService fileDeletionService;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final TransactionTemplate transactionTemplate;
+
 	private static final String UPLOAD_DIR = "course-content";
 
 	private static final int PAGE_SIZE = 10;
 
-	@Transactional
+	/**
+	 * 강의 자료 업로드
+	 * 담당 강사 여부는 컨트롤러에서 확인하고, 강의 존재를 먼저 확인한 뒤 파일을 트랜잭션 밖에서 병렬로 업로드
+	 * 저장에 실패하면 업로드한 파일 삭제
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public CourseContentResponseDto uploadContent(Long courseId, CourseContentRequestDto.Upload request) {
 		log.info("Uploading content for course: {}", courseId);
 
+		if (!courseRepository.existsById(courseId)) {
+			throw new CourseNotFoundException();
+		}
+
+		List<String> fileUrls;
+		try {
+			fileUrls = s3FileService.uploadFiles(UPLOAD_DIR, request.getFiles());
+		} catch (Exception e) {
+			log.error("File upload failed for course: {}", courseId, e);
+			throw new FileUploadFailedException();
+		}
+
+		try {
+			return transactionTemplate.execute(status -> saveContent(courseId, request, fileUrls));
+		} catch (RuntimeException e) {
+			s3FileService.deleteFilesQuietly(fileUrls);
+			throw e;
+		}
+	}
+
+	private CourseContentResponseDto saveContent(Long courseId, CourseContentRequestDto.Upload request,
+			List<String> fileUrls) {
 		Course course = courseRepository.findById(courseId)
 				.orElseThrow(CourseNotFoundException::new);
 
@@ -68,27 +107,11 @@ public class CourseContentService {
 				.course(course)
 				.build();
 
-		// 파일 업로드 처리
-		if (request.getFiles() != null && !request.getFiles().isEmpty()) {
-			for (MultipartFile file : request.getFiles()) {
-				try {
-					String fileUrl = s3FileService.uploadFile(UPLOAD_DIR, file);
-					CourseContentFile contentFile = CourseContentFile.createAttachment(
-							file.getOriginalFilename(),
-							extractStoredFileName(fileUrl),
-							fileUrl,
-							file.getSize(),
-							content
-					);
-					content.addFile(contentFile);
-				} catch (Exception e) {
-					log.error("File upload failed for course: {}", courseId, e);
-					throw new FileUploadFailedException();
-				}
-			}
-		}
+		// 업로드된 파일 추가
+		addFiles(content, request.getFiles(), fileUrls);
 
 		CourseContent savedContent = courseContentRepository.save(content);
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 		log.info("Content uploaded successfully for course: {}", courseId);
 		return CourseContentResponseDto.from(savedContent);
 	}
@@ -126,26 +149,16 @@ public class CourseContentService {
 
 		content.updateContent(request.getTitle(), request.getContent());
 
-		if (request.getFiles() != null && !request.getFiles().isEmpty()) {
-			for (MultipartFile file : request.getFiles()) {
-				try {
-					String fileUrl = s3FileService.uploadFile(UPLOAD_DIR, file);
-					CourseContentFile contentFile = CourseContentFile.createAttachment(
-							file.getOriginalFilename(),
-							extractStoredFileName(fileUrl),
-							fileUrl,
-							file.getSize(),
-							content
-					);
-					content.addFile(contentFile);
-				} catch (Exception e) {
-					log.error("File upload failed during content update - courseId: {}, contentId: {}",
-							courseId, contentId, e);
-					throw new FileUploadFailedException();
-				}
-			}
+		// 파일 병렬 업로드 처리
+		try {
+			addFiles(content, request.getFiles(), s3FileService.uploadFiles(UPLOAD_DIR, request.getFiles()));
+		} catch (Exception e) {
+			log.error("File upload failed during content update - courseId: {}, contentId: {}",
+					courseId, contentId, e);
+			throw new FileUploadFailedException();
 		}
 
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 		log.info("Content updated successfully - courseId: {}, contentId: {}", courseId, contentId);
 		return CourseContentResponseDto.from(content);
 	}
@@ -157,26 +170,44 @@ public class CourseContentService {
 		CourseContent content = courseContentRepository.findByIdAndCourseId(contentId, courseId)
 				.orElseThrow(CourseContentNotFoundException::new);
 
-		for (CourseContentFile file : content.getFiles()) {
-			try {
-				s3FileService.deleteFile(file.getFileUrl());
-			} catch (Exception e) {
-				log.error("Failed to delete file from S3: {}", file.getFileUrl(), e);
-				throw new FileDeleteFailedException();
-			}
-		}
+		// S3 파일 삭제 예약 (커밋 후 백그라운드에서 일괄 삭제)
+		fileDeletionService.deleteLater(content.getFiles().stream().map(CourseContentFile::getFileUrl).toList());
 
 		courseContentRepository.delete(content);
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 		log.info("Content deleted successfully - courseId: {}, contentId: {}", courseId, contentId);
 	}
 
 	/**
 	 * 중복 선택 삭제
+	 * 강의 자료와 첨부 파일을 한 번에 조회하고, S3 삭제를 한 번에 예약한 뒤 일괄 삭제
 	 */
 	@Transactional
 	public void deleteContents(Long courseId, List<Long> contentIds) {
 		log.info("Batch deleting contents: {} from course: {}", contentIds, courseId);
-		contentIds.forEach(contentId -> deleteContent(courseId, contentId));
+
+		Set<Long> ids = new HashSet<>(contentIds);
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		// 하나라도 없거나 다른 강의의 자료이면 전체 취소
+		List<CourseContent> contents = courseContentRepository.findAllWithFilesByIdInAndCourseId(ids, courseId);
+		if (contents.size() != ids.size()) {
+			throw new CourseContentNotFoundException();
+		}
+
+		// S3 파일 삭제 예약 (커밋 후 백그라운드에서 일괄 삭제)
+		fileDeletionService.deleteLater(contents.stream()
+				.flatMap(content -> content.getFiles().stream())
+				.map(CourseContentFile::getFileUrl)
+				.toList());
+
+		int deletedFileCount = courseContentRepository.deleteFilesByContentIdIn(ids);
+		courseContentRepository.deleteAllByIdIn(ids);
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
+		log.info("Contents deleted successfully - courseId: {}, contents: {}, files: {}",
+				courseId, ids.size(), deletedFileCount);
 	}
 
 	/**
@@ -213,15 +244,12 @@ public class CourseContentService {
 				.findFirst()
 				.orElseThrow(() -> new IllegalArgumentException("파일을 찾을 수 없습니다."));
 
-		// S3에서 파일 삭제
-		try {
-			s3FileService.deleteFile(file.getFileUrl());
-		} catch (Exception e) {
-			log.error("Failed to delete file from S3: {}", file.getFileUrl(), e);
-		}
+		// S3 파일 삭제 예약
+		fileDeletionService.deleteLater(List.of(file.getFileUrl()));
 
 		// 컨텐츠에서 파일 제거
 		content.removeFile(file);
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 
 		return CourseContentResponseDto.from(content);
 	}
@@ -262,6 +290,22 @@ public class CourseContentService {
 		return CourseContentListResponseDto.of(responseDtos, PAGE_SIZE);
 	}
 
+	// 업로드된 파일 추가 (업로드 URL은 파일 순서와 같음)
+	private void addFiles(CourseContent content, List<MultipartFile> files, List<String> fileUrls) {
+		for (int i = 0; i < fileUrls.size(); i++) {
+			MultipartFile file = files.get(i);
+			String fileUrl = fileUrls.get(i);
+			CourseContentFile contentFile = CourseContentFile.createAttachment(
+					file.getOriginalFilename(),
+					extractStoredFileName(fileUrl),
+					fileUrl,
+					file.getSize(),
+					content
+			);
+			content.addFile(contentFile);
+		}
+	}
+
 	private String extractStoredFileName(String fileUrl) {
 		return fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
 	}
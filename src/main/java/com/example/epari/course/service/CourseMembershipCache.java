@@ -0,0 +1,217 @@
+package com.example.epari.course.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.epari.course.repository.CourseRepository;
+import com.example.epari.global.event.CourseMembershipChangedEvent;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 접근 권한 캐시
+ * (강의 ID, 사용자 ID)별 담당 강사/수강생 여부를 로컬 메모리와 Redis 두 단계로 캐시
+ * 구성원 변경 시 커밋 후 강의별 세대 번호를 올려 이전 세대의 Redis 값을 버리고, Pub/Sub으로 모든 서버의 로컬 캐시를 무효화
+ * Redis 값은 세대 번호가 조회 시점과 같을 때만 저장하므로, 변경 전에 DB에서 읽은 값이 무효화 이후에 저장되지 않음
+ * Redis 값의 TTL은 처음 저장할 때만 설정하여, 무효화에 실패하더라도 오래된 값이 TTL 이상 남지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseMembershipCache implements MessageListener {
+
+	private static final String KEY_PREFIX = "epari::course-membership::";
+
+	private static final String GENERATION_KEY_PREFIX = "epari::course-membership-generation::";
+
+	private static final String CHANNEL = "epari::course-membership-invalidation";
+
+	private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+
+	private static final Duration SHARED_TTL = Duration.ofMinutes(10);
+
+	// 로컬 캐시 최대 강의 수 (초과 시 전체 비움)
+	private static final int LOCAL_MAX_COURSES = 5_000;
+
+	// 권한 비트
+	private static final int TEACHING = 1;
+
+	private static final int ENROLLED = 1 << 1;
+
+	// 세대 번호가 조회 시점과 같을 때만 값이 없는 경우에 저장 (TTL은 저장 시에만 설정)
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+			"if (redis.call('get', KEYS[1]) or '0') ~= ARGV[1] then return 0 end "
+					+ "if redis.call('set', KEYS[2], ARGV[2], 'EX', ARGV[3], 'NX') then return 1 else return 0 end",
+			Long.class);
+
+	private final CourseRepository courseRepository;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	// 강의 ID → (사용자 ID → 권한 비트)
+	private final Map<Long, Map<Long, LocalEntry>> localCache = new ConcurrentHashMap<>();
+
+	// 로컬 캐시 무효화 횟수 (조회 중 무효화가 일어나면 조회한 값을 로컬 캐시에 저장하지 않음)
+	private final AtomicLong localInvalidations = new AtomicLong();
+
+	@PostConstruct
+	public void registerListener() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 강의 담당 강사 여부
+	public boolean isInstructor(Long courseId, Long userId) {
+		return (getMembership(courseId, userId) & TEACHING) != 0;
+	}
+
+	// 강의 수강생 여부
+	public boolean isStudent(Long courseId, Long userId) {
+		return (getMembership(courseId, userId) & ENROLLED) != 0;
+	}
+
+	// 구성원 변경 커밋 후 캐시 무효화
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleMembershipChanged(CourseMembershipChangedEvent event) {
+		Long courseId = event.getCourseId();
+		try {
+			stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + courseId);
+			stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(courseId));
+		} catch (DataAccessException e) {
+			log.warn("Failed to invalidate course membership cache - courseId: {}", courseId, e);
+		}
+		invalidateLocal(courseId);
+	}
+
+	// 다른 서버의 무효화 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			invalidateLocal(Long.valueOf(body));
+		} catch (NumberFormatException e) {
+			log.warn("Invalid course membership invalidation message: {}", body);
+		}
+	}
+
+	private void invalidateLocal(Long courseId) {
+		localInvalidations.incrementAndGet();
+		localCache.remove(courseId);
+	}
+
+	private int getMembership(Long courseId, Long userId) {
+		long now = System.currentTimeMillis();
+		long invalidations = localInvalidations.get();
+
+		// 1. 로컬 캐시
+		Map<Long, LocalEntry> courseEntries = localCache.get(courseId);
+		if (courseEntries != null) {
+			LocalEntry entry = courseEntries.get(userId);
+			if (entry != null && entry.expiresAt > now) {
+				return entry.bits;
+			}
+		}
+
+		// 2. Redis 캐시, 3. DB
+		String generation = findGeneration(courseId);
+		Integer bits = generation != null ? findShared(courseId, generation, userId) : null;
+		if (bits == null) {
+			bits = loadMembership(courseId, userId);
+			if (generation != null) {
+				saveShared(courseId, generation, userId, bits);
+			}
+		}
+
+		if (localInvalidations.get() != invalidations) {
+			return bits;
+		}
+		if (localCache.size() >= LOCAL_MAX_COURSES) {
+			localCache.clear();
+		}
+		localCache.computeIfAbsent(courseId, id -> new ConcurrentHashMap<>())
+				.put(userId, new LocalEntry(bits, now + LOCAL_TTL.toMillis()));
+		return bits;
+	}
+
+	private int loadMembership(Long courseId, Long userId) {
+		int bits = 0;
+		if (courseRepository.existsByCourseIdAndInstructorId(courseId, userId)) {
+			bits |= TEACHING;
+		}
+		if (courseRepository.existsByCourseIdAndStudentId(courseId, userId)) {
+			bits |= ENROLLED;
+		}
+		return bits;
+	}
+
+	// 강의의 현재 세대 번호 조회 (Redis 장애 시 null)
+	private String findGeneration(Long courseId) {
+		try {
+			String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + courseId);
+			return generation != null ? generation : "0";
+		} catch (DataAccessException e) {
+			log.warn("Failed to read course membership generation - courseId: {}", courseId, e);
+			return null;
+		}
+	}
+
+	private Integer findShared(Long courseId, String generation, Long userId) {
+		try {
+			String value = stringRedisTemplate.opsForValue().get(sharedKey(courseId, generation, userId));
+			return value != null ? Integer.valueOf(value) : null;
+		} catch (DataAccessException | NumberFormatException e) {
+			log.warn("Failed to read course membership cache - courseId: {}", courseId, e);
+			return null;
+		}
+	}
+
+	private void saveShared(Long courseId, String generation, Long userId, int bits) {
+		try {
+			stringRedisTemplate.execute(SAVE_SCRIPT,
+					List.of(GENERATION_KEY_PREFIX + courseId, sharedKey(courseId, generation, userId)),
+					generation, String.valueOf(bits), String.valueOf(SHARED_TTL.toSeconds()));
+		} catch (DataAccessException e) {
+			log.warn("Failed to write course membership cache - courseId: {}", courseId, e);
+		}
+	}
+
+	// 캐시 키 형식: "{prefix}{courseId}::{generation}::{userId}"
+	private String sharedKey(Long courseId, String generation, Long userId) {
+		return KEY_PREFIX + courseId + "::" + generation + "::" + userId;
+	}
+
+	/*
+	 * 로컬 캐시 항목
+	 */
+	private static class LocalEntry {
+
+		private final int bits;
+
+		private final long expiresAt;
+
+		LocalEntry(int bits, long expiresAt) {
+			this.bits = bits;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
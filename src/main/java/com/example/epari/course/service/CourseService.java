@@ -3,6 +3,7 @@ package com.example.epari.course.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +14,8 @@ import com.example.epari.course.repository.CourseRepository;
 import com.example.epari.global.common.base.BaseUser;
 import com.example.epari.global.common.enums.UserRole;
 import com.example.epari.global.common.repository.BaseUserRepository;
+import com.example.epari.global.event.CourseMembershipChangedEvent;
+import com.example.epari.global.event.DashboardChangedEvent;
 import com.example.epari.global.exception.auth.AuthUserNotFoundException;
 import com.example.epari.global.exception.auth.InstructorNotFoundException;
 import com.example.epari.global.exception.course.CourseInstructorMismatchException;
@@ -38,6 +41,8 @@ public class CourseService {
 
 	private final BaseUserRepository baseUserRepository;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * 새로운 강의를 생성합니다.
 	 */
@@ -96,6 +101,15 @@ public class CourseService {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * 학생이 수강 중인 강의 목록을 조회합니다.
+	 */
+	public List<CourseResponseDto> getStudentCourses(Long studentId) {
+		return courseRepository.findAllByStudentId(studentId).stream()
+				.map(CourseResponseDto::from)
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * 강의 정보를 수정합니다.
 	 */
@@ -116,6 +130,7 @@ public class CourseService {
 				request.getClassroom()
 		);
 
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 		log.info("Updated course: {} by instructor: {}", courseId, instructorId);
 		return CourseResponseDto.from(course);
 	}
@@ -135,6 +150,7 @@ public class CourseService {
 
 		log.info("Deleting course: {} by instructor: {}", courseId, instructorId);
 		courseRepository.deleteById(courseId);
+		eventPublisher.publishEvent(CourseMembershipChangedEvent.of(courseId));
 	}
 
 }
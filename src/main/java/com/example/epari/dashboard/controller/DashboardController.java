@@ -0,0 +1,32 @@
+package com.example.epari.dashboard.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.epari.dashboard.dto.StudentDashboardResponseDto;
+import com.example.epari.dashboard.service.DashboardService;
+import com.example.epari.global.annotation.CurrentPrincipal;
+import com.example.epari.global.auth.dto.ResolvedPrincipal;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대시보드 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/student/dashboard")
+public class DashboardController {
+
+	private final DashboardService dashboardService;
+
+	// 학생 대시보드 조회 (수강 강의, 시험, 강의별 공지사항/과제/오늘의 강의 자료)
+	@GetMapping
+	public ResponseEntity<StudentDashboardResponseDto> getStudentDashboard(
+			@CurrentPrincipal ResolvedPrincipal principal) {
+		return ResponseEntity.ok(dashboardService.getStudentDashboard(principal));
+	}
+
+}
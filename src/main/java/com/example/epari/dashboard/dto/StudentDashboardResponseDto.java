@@ -0,0 +1,46 @@
+package com.example.epari.dashboard.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.epari.assignment.dto.assignment.AssignmentResponseDto;
+import com.example.epari.board.dto.NoticeResponseDto;
+import com.example.epari.course.dto.content.CourseContentResponseDto;
+import com.example.epari.course.dto.course.CourseResponseDto;
+import com.example.epari.exam.dto.response.ExamListResponseDto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 학생 대시보드 응답 DTO
+ * 수강 강의 목록, 시험 목록과 강의별 공지사항/과제/오늘의 강의 자료를 한 번에 반환
+ */
+@Getter
+@Builder
+public class StudentDashboardResponseDto {
+
+	private List<CourseResponseDto> courses;
+
+	private ExamListResponseDto exams;
+
+	private List<CourseSection> courseSections;
+
+	// 대시보드 구성 시각 (캐시된 응답인 경우 최초 구성 시각)
+	private LocalDateTime generatedAt;
+
+	@Getter
+	@Builder
+	public static class CourseSection {
+
+		private Long courseId;
+
+		private List<NoticeResponseDto> notices;
+
+		private List<AssignmentResponseDto> assignments;
+
+		private List<CourseContentResponseDto> todayContents;
+
+	}
+
+}
@@ -0,0 +1,177 @@
+package com.example.epari.dashboard.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.epari.dashboard.dto.StudentDashboardResponseDto;
+import com.example.epari.global.event.CourseMembershipChangedEvent;
+import com.example.epari.global.event.DashboardChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학생 대시보드 캐시
+ * 구성된 대시보드를 구성 시점의 버전(전체/학생/수강 강의별)과 함께 로컬 메모리에 보관하고,
+ * 조회 시 Redis의 현재 버전과 비교하여 하나라도 달라졌으면 다시 구성
+ * 변경 시에는 해당 강의/학생의 버전만 올리므로, 변경과 무관한 학생의 대시보드는 그대로 유지됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCache {
+
+	private static final String VERSION_PREFIX = "epari::dashboard-version::";
+
+	private static final String GLOBAL_VERSION_KEY = VERSION_PREFIX + "global";
+
+	// 조회수 등 버전을 올리지 않는 변경이 반영되는 최대 시간
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+
+	private static final int LOCAL_MAX_SIZE = 2_000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	// 접근 순서 기준 LRU (학생 ID → 캐시된 대시보드)
+	private final Map<Long, CachedDashboard> localEntries = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, CachedDashboard> eldest) {
+			return size() > LOCAL_MAX_SIZE;
+		}
+	};
+
+	// 캐시된 대시보드 조회 (없거나 버전이 달라졌으면 null)
+	public StudentDashboardResponseDto get(Long studentId) {
+		CachedDashboard cached;
+		synchronized (localEntries) {
+			cached = localEntries.get(studentId);
+		}
+		if (cached == null || cached.expiresAt <= System.currentTimeMillis()) {
+			return null;
+		}
+
+		Map<String, Long> currentVersions = readVersions(cached.versions.keySet());
+		if (!cached.versions.equals(currentVersions)) {
+			synchronized (localEntries) {
+				localEntries.remove(studentId);
+			}
+			return null;
+		}
+		return cached.view;
+	}
+
+	// 전체/학생 버전 조회 (대시보드 구성 전에 읽어, 구성 중 변경이 생기면 다음 조회에서 다시 구성되도록 함)
+	public Map<String, Long> readStudentVersions(Long studentId) {
+		return readVersions(List.of(GLOBAL_VERSION_KEY, studentKey(studentId)));
+	}
+
+	// 수강 강의별 버전 조회
+	public Map<String, Long> readCourseVersions(Collection<Long> courseIds) {
+		return readVersions(courseIds.stream().map(this::courseKey).toList());
+	}
+
+	// 구성한 대시보드 저장 (버전 조회에 실패했으면 저장하지 않음)
+	public void put(Long studentId, Map<String, Long> studentVersions, Map<String, Long> courseVersions,
+			StudentDashboardResponseDto view) {
+		if (studentVersions == null || courseVersions == null) {
+			return;
+		}
+
+		Map<String, Long> versions = new HashMap<>(studentVersions);
+		versions.putAll(courseVersions);
+		synchronized (localEntries) {
+			localEntries.put(studentId, new CachedDashboard(view, Map.copyOf(versions),
+					System.currentTimeMillis() + LOCAL_TTL.toMillis()));
+		}
+	}
+
+	// 변경 커밋 후 변경 범위의 버전 증가
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleDashboardChanged(DashboardChangedEvent event) {
+		switch (event.getScope()) {
+			case COURSE -> increaseVersion(courseKey(event.getTargetId()));
+			case STUDENT -> increaseVersion(studentKey(event.getTargetId()));
+			case ALL -> increaseVersion(GLOBAL_VERSION_KEY);
+		}
+	}
+
+	// 수강 구성 변경 시 새로 수강하게 된 학생을 특정할 수 없으므로 전체 버전 증가
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleMembershipChanged(CourseMembershipChangedEvent event) {
+		increaseVersion(GLOBAL_VERSION_KEY);
+	}
+
+	private void increaseVersion(String key) {
+		try {
+			stringRedisTemplate.opsForValue().increment(key);
+		} catch (DataAccessException e) {
+			// 버전을 올리지 못한 변경은 로컬 캐시 유효 시간 경과 후 반영됨
+			log.warn("Failed to increase dashboard version - key: {}", key, e);
+		}
+	}
+
+	// 키별 현재 버전 조회 (값이 없으면 0, Redis 장애 시 null)
+	private Map<String, Long> readVersions(Collection<String> keys) {
+		if (keys.isEmpty()) {
+			return Map.of();
+		}
+
+		List<String> keyList = new ArrayList<>(keys);
+		List<String> values;
+		try {
+			values = stringRedisTemplate.opsForValue().multiGet(keyList);
+		} catch (DataAccessException e) {
+			log.warn("Failed to read dashboard versions", e);
+			return null;
+		}
+		if (values == null) {
+			return null;
+		}
+
+		Map<String, Long> versions = new HashMap<>();
+		for (int i = 0; i < keyList.size(); i++) {
+			String value = values.get(i);
+			versions.put(keyList.get(i), value != null ? Long.parseLong(value) : 0L);
+		}
+		return versions;
+	}
+
+	private String studentKey(Long studentId) {
+		return VERSION_PREFIX + "student::" + studentId;
+	}
+
+	private String courseKey(Long courseId) {
+		return VERSION_PREFIX + "course::" + courseId;
+	}
+
+	/*
+	 * 로컬 캐시 항목
+	 */
+	private static class CachedDashboard {
+
+		private final StudentDashboardResponseDto view;
+
+		// 구성 시점의 버전 (버전 키 → 값)
+		private final Map<String, Long> versions;
+
+		private final long expiresAt;
+
+		CachedDashboard(StudentDashboardResponseDto view, Map<String, Long> versions, long expiresAt) {
+			this.view = view;
+			this.versions = versions;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.example.epari.dashboard.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.example.epari.assignment.dto.assignment.AssignmentResponseDto;
+import com.example.epari.assignment.service.AssignmentService;
+import com.example.epari.board.dto.NoticeResponseDto;
+import com.example.epari.board.service.NoticeService;
+import com.example.epari.course.dto.content.CourseContentResponseDto;
+import com.example.epari.course.dto.course.CourseResponseDto;
+import com.example.epari.course.service.CourseContentService;
+import com.example.epari.course.service.CourseService;
+import com.example.epari.dashboard.dto.StudentDashboardResponseDto;
+import com.example.epari.exam.dto.response.ExamListResponseDto;
+import com.example.epari.exam.service.ExamService;
+import com.example.epari.global.auth.dto.ResolvedPrincipal;
+import com.example.epari.global.exception.BusinessBaseException;
+import com.example.epari.global.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학생 대시보드 서비스
+ * 수강 강의, 시험, 강의별 공지사항/과제/오늘의 강의 자료 조회를 병렬로 수행하여 하나의 응답으로 구성
+ * 요청 시 한 번 확인한 사용자 정보를 모든 조회에 공유하고, 구성된 대시보드는 학생별로 캐시
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+	private final CourseService courseService;
+
+	private final ExamService examService;
+
+	private final NoticeService noticeService;
+
+	private final AssignmentService assignmentService;
+
+	private final CourseContentService courseContentService;
+
+	private final DashboardCache dashboardCache;
+
+	private final AsyncTaskExecutor dashboardTaskExecutor;
+
+	public DashboardService(CourseService courseService, ExamService examService, NoticeService noticeService,
+			AssignmentService assignmentService, CourseContentService courseContentService,
+			DashboardCache dashboardCache, @Qualifier("dashboardTaskExecutor") AsyncTaskExecutor dashboardTaskExecutor) {
+		this.courseService = courseService;
+		this.examService = examService;
+		this.noticeService = noticeService;
+		this.assignmentService = assignmentService;
+		this.courseContentService = courseContentService;
+		this.dashboardCache = dashboardCache;
+		this.dashboardTaskExecutor = dashboardTaskExecutor;
+	}
+
+	// 학생 대시보드 조회
+	public StudentDashboardResponseDto getStudentDashboard(ResolvedPrincipal principal) {
+		if (!principal.isStudent()) {
+			throw new BusinessBaseException(ErrorCode.FORBIDDEN);
+		}
+		Long studentId = principal.getUserId();
+
+		StudentDashboardResponseDto cached = dashboardCache.get(studentId);
+		if (cached != null) {
+			return cached;
+		}
+
+		// 버전은 데이터 조회 전에 읽어, 조회 도중 변경이 생기면 다음 조회에서 다시 구성되도록 함
+		Map<String, Long> studentVersions = dashboardCache.readStudentVersions(studentId);
+		CompletableFuture<ExamListResponseDto> exams = supply(() -> examService.getStudentExams(studentId, null));
+
+		List<CourseResponseDto> courses = courseService.getStudentCourses(studentId);
+		Map<String, Long> courseVersions = dashboardCache.readCourseVersions(
+				courses.stream().map(CourseResponseDto::getId).toList());
+
+		List<CompletableFuture<StudentDashboardResponseDto.CourseSection>> sections = courses.stream()
+				.map(course -> loadCourseSection(course.getId()))
+				.toList();
+
+		StudentDashboardResponseDto view = StudentDashboardResponseDto.builder()
+				.courses(courses)
+				.exams(join(exams))
+				.courseSections(sections.stream().map(this::join).toList())
+				.generatedAt(LocalDateTime.now())
+				.build();
+
+		dashboardCache.put(studentId, studentVersions, courseVersions, view);
+		return view;
+	}
+
+	// 강의별 공지사항/과제/오늘의 강의 자료 병렬 조회
+	private CompletableFuture<StudentDashboardResponseDto.CourseSection> loadCourseSection(Long courseId) {
+		CompletableFuture<List<NoticeResponseDto>> notices = supply(() -> noticeService.getCourseNotices(courseId));
+		CompletableFuture<List<AssignmentResponseDto>> assignments = supply(
+				() -> assignmentService.getAssignmentsByCourse(courseId));
+		CompletableFuture<List<CourseContentResponseDto>> todayContents = supply(
+				() -> courseContentService.getTodayContents(courseId));
+
+		return CompletableFuture.allOf(notices, assignments, todayContents)
+				.thenApply(ignored -> StudentDashboardResponseDto.CourseSection.builder()
+						.courseId(courseId)
+						.notices(notices.join())
+						.assignments(assignments.join())
+						.todayContents(todayContents.join())
+						.build());
+	}
+
+	private <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, dashboardTaskExecutor);
+	}
+
+	// 병렬 조회 결과 대기 (조회 중 발생한 예외는 그대로 전달)
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.example.epari.exam.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -13,11 +14,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.epari.exam.dto.request.ExamRequestDto;
 import com.example.epari.exam.dto.response.ExamListResponseDto;
 import com.example.epari.exam.dto.response.ExamResponseDto;
 import com.example.epari.exam.service.ExamService;
+import com.example.epari.exam.service.ExamStatusPushService;
 import com.example.epari.global.annotation.CurrentUserEmail;
 import com.example.epari.global.common.enums.ExamStatus;
 
@@ -33,6 +36,8 @@ public class ExamController {
 
 	private final ExamService examService;
 
+	private final ExamStatusPushService examStatusPushService;
+
 	// 시험 목록 조회
 	@GetMapping
 	@PreAuthorize("hasAnyRole('INSTRUCTOR', 'STUDENT')")
@@ -51,6 +56,16 @@ public class ExamController {
 		return ResponseEntity.ok(exams);
 	}
 
+	// 강의의 시험 상태 실시간 구독 (시험 시작, 남은 시간, 강제 제출, 채점 완료)
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@PreAuthorize("(hasRole('INSTRUCTOR') and @courseSecurityChecker.checkInstructorAccess(#courseId, #email))"
+			+ " or (hasRole('STUDENT') and @courseSecurityChecker.checkStudentAccess(#courseId, #email))")
+	public SseEmitter subscribeExamStatus(
+			@PathVariable Long courseId,
+			@CurrentUserEmail String email) {
+		return examStatusPushService.subscribe(courseId);
+	}
+
 	// 시험 상세 정보 조회
 	@GetMapping("/{examId}")
 	@PreAuthorize("hasAnyRole('INSTRUCTOR', 'STUDENT')")
@@ -0,0 +1,83 @@
+package com.example.epari.exam.domain;
+
+import com.example.epari.global.common.enums.ExamQuestionType;
+
+import lombok.Getter;
+
+/**
+ * 채점을 위해 미리 정규화해 둔 문제별 정답 정보
+ * 답안 비교 시 문자열 생성이나 선택지 지연 로딩이 일어나지 않도록 원시값만 보관하는 불변 객체
+ */
+@Getter
+public final class CompiledAnswer {
+
+	private final ExamQuestionType type;
+
+	private final int score;
+
+	// 주관식: 앞뒤 공백 제거 후 소문자로 변환한 정답, 객관식: 정답 원문
+	private final String answer;
+
+	// 객관식 선택지 수
+	private final int choiceCount;
+
+	// 객관식 정답 번호 (정답이 유효한 선택지 범위를 벗어나면 0)
+	private final int correctChoice;
+
+	private CompiledAnswer(ExamQuestionType type, int score, String answer, int choiceCount, int correctChoice) {
+		this.type = type;
+		this.score = score;
+		this.answer = answer;
+		this.choiceCount = choiceCount;
+		this.correctChoice = correctChoice;
+	}
+
+	// 주관식 정답 정보 생성
+	static CompiledAnswer subjective(int score, String correctAnswer) {
+		return new CompiledAnswer(ExamQuestionType.SUBJECTIVE, score, correctAnswer.trim().toLowerCase(), 0, 0);
+	}
+
+	// 객관식 정답 정보 생성
+	static CompiledAnswer multipleChoice(int score, String correctAnswer, int choiceCount) {
+		int correctChoice;
+		try {
+			correctChoice = Integer.parseInt(correctAnswer);
+		} catch (NumberFormatException e) {
+			correctChoice = 0;
+		}
+		if (correctChoice < 1 || correctChoice > choiceCount) {
+			correctChoice = 0;
+		}
+		return new CompiledAnswer(ExamQuestionType.MULTIPLE_CHOICE, score, correctAnswer, choiceCount,
+				correctChoice);
+	}
+
+	// 학생 답안이 정답인지 확인 (앞뒤 공백은 무시)
+	public boolean matches(String studentAnswer) {
+		if (studentAnswer == null) {
+			return false;
+		}
+
+		int start = 0;
+		int end = studentAnswer.length();
+		while (start < end && studentAnswer.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && studentAnswer.charAt(end - 1) <= ' ') {
+			end--;
+		}
+
+		int length = end - start;
+		if (length == 0 || length != answer.length()) {
+			return false;
+		}
+
+		if (type == ExamQuestionType.MULTIPLE_CHOICE) {
+			// 정답 번호가 유효한 경우에만 원문과 그대로 비교
+			return correctChoice > 0 && studentAnswer.regionMatches(start, answer, 0, length);
+		}
+		// 주관식은 대소문자 무시 비교
+		return studentAnswer.regionMatches(true, start, answer, 0, length);
+	}
+
+}
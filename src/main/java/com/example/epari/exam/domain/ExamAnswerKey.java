@@ -0,0 +1,37 @@
+package com.example.epari.exam.domain;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시험 하나의 채점용 정답표
+ * 채점 1회당 한 번 생성하여 모든 학생의 답안 채점에 재사용하는 불변 객체
+ */
+public final class ExamAnswerKey {
+
+	private final Map<Long, CompiledAnswer> answers;
+
+	private ExamAnswerKey(Map<Long, CompiledAnswer> answers) {
+		this.answers = answers;
+	}
+
+	// 문제 목록으로 정답표 생성 (객관식 문제는 선택지가 초기화된 상태여야 함)
+	public static ExamAnswerKey compile(Collection<? extends ExamQuestion> questions) {
+		Map<Long, CompiledAnswer> answers = new HashMap<>();
+		for (ExamQuestion question : questions) {
+			answers.put(question.getId(), question.compileAnswer());
+		}
+		return new ExamAnswerKey(Map.copyOf(answers));
+	}
+
+	// 답안 채점 (정답이면 배점, 오답이거나 정답표에 없는 문제면 0점)
+	public int grade(Long questionId, String studentAnswer) {
+		CompiledAnswer answer = answers.get(questionId);
+		if (answer != null && answer.matches(studentAnswer)) {
+			return answer.getScore();
+		}
+		return 0;
+	}
+
+}
@@ -82,15 +82,12 @@ public abstract class ExamQuestion extends BaseTimeEntity {
 
 	// 학생의 답안을 채점하여 맞았는지 여부를 반환
 	public final boolean validateAnswer(String studentAnswer) {
-		if (studentAnswer == null || studentAnswer.trim().isEmpty()) {
-			return false;
-		}
-		return doValidateAnswer(studentAnswer.trim());
+		return compileAnswer().matches(studentAnswer);
 	}
 
-	// 실제 답안 검증 로직을 구현하는 추상 메서드
-	// 각 문제 타입별로 구체적인 검증 방식을 구현
-	protected abstract boolean doValidateAnswer(String studentAnswer);
+	// 채점용 정답 정보 생성
+	// 각 문제 타입별로 정답을 미리 정규화하여 반환
+	public abstract CompiledAnswer compileAnswer();
 
 	// 문제 번호 업데이트
 	public void updateExamNumber(int newNumber) {
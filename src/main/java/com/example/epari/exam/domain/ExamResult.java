@@ -55,6 +55,15 @@ public class ExamResult extends BaseTimeEntity {
 	@Column(nullable = false)
 	private Integer totalScore = 0;
 
+	// 획득 점수 (최종 제출된 답안 기준, 답안 변경/채점 시 함께 갱신)
+	@Column(nullable = false)
+	private int earnedScore = 0;
+
+	// 최종 제출된 답안 수 (답안 변경/채점 시 함께 갱신)
+	// 응시 중에는 표시용 근사값이며, 제출/채점 시 저장된 답안 기준으로 다시 계산됨
+	@Column(nullable = false)
+	private int submittedQuestionCount = 0;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private ExamStatus status;
@@ -83,6 +92,15 @@ public class ExamResult extends BaseTimeEntity {
 		validateScoreAddable();
 		scores.add(score);
 		score.setExamResult(this);
+		if (!score.isTemporary()) {
+			onScoreSubmitted(score);
+		}
+	}
+
+	// 답안 최종 제출 반영
+	void onScoreSubmitted(ExamScore score) {
+		this.submittedQuestionCount++;
+		this.earnedScore += score.getEarnedScore();
 	}
 
 	// 답안 제출 처리
@@ -94,6 +112,8 @@ public class ExamResult extends BaseTimeEntity {
 		this.submitTime = LocalDateTime.now();
 		this.status = ExamStatus.SUBMITTED;
 		scores.forEach(ExamScore::markAsSubmitted);
+		// 응시 중 동시 답안 제출로 누락되었을 수 있는 집계를 저장된 답안 기준으로 다시 계산
+		recalculateSubmittedTotals();
 	}
 
 	// 채점 결과 반영
@@ -103,17 +123,17 @@ public class ExamResult extends BaseTimeEntity {
 		}
 
 		this.totalScore = calculateTotalScore();
+		recalculateSubmittedTotals();
 		this.status = ExamStatus.GRADED;
 	}
 
-	// 획득한 점수 조회
-	public int getEarnedScore() {
-		return scores.stream().filter(score -> !score.isTemporary()).mapToInt(ExamScore::getEarnedScore).sum();
-	}
-
-	// 제출된 문제 수 조회
-	public int getSubmittedQuestionCount() {
-		return (int)scores.stream().filter(score -> !score.isTemporary()).count();
+	// 최종 제출된 답안 기준으로 획득 점수/제출 답안 수 재계산
+	private void recalculateSubmittedTotals() {
+		this.earnedScore = scores.stream()
+				.filter(score -> !score.isTemporary())
+				.mapToInt(ExamScore::getEarnedScore)
+				.sum();
+		this.submittedQuestionCount = (int)scores.stream().filter(score -> !score.isTemporary()).count();
 	}
 
 	// 총 점수 계산
@@ -154,6 +174,7 @@ public class ExamResult extends BaseTimeEntity {
 	}
 
 	// 모든 문제 답안 검증
+	// 잠금 없이 갱신되는 집계 컬럼 대신 저장된 답안으로 확인 (동시 답안 제출 시 집계가 누락될 수 있음)
 	private void validateAllQuestionsAnswered() {
 		int totalQuestions = exam.getQuestions().size();
 		long answeredQuestions = scores.stream().filter(score -> !score.isTemporary()).count();
@@ -66,7 +66,13 @@ public class ExamScore extends BaseTimeEntity {
 
 	// 임시저장 상태 해제 (최종 제출)
 	public void markAsSubmitted() {
+		if (!temporary) {
+			return;
+		}
 		this.temporary = false;
+		if (examResult != null) {
+			examResult.onScoreSubmitted(this);
+		}
 	}
 
 	// 채점 결과 업데이트
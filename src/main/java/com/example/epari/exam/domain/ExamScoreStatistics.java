@@ -0,0 +1,150 @@
+package com.example.epari.exam.domain;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import com.example.epari.global.common.base.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시험별 점수 통계를 관리하는 엔티티
+ * 채점 시 점진적으로 갱신되어, 통계 조회 시 시험 결과 전체를 다시 읽지 않도록 함
+ */
+@Entity
+@Table(name = "exam_score_statistics")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExamScoreStatistics extends BaseTimeEntity {
+
+	// 점수 분포 구간 수 (만점 대비 10% 단위)
+	public static final int HISTOGRAM_BUCKET_COUNT = 10;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "exam_id", nullable = false, unique = true)
+	private Exam exam;
+
+	// 분포 구간 계산 기준 만점
+	@Column(nullable = false)
+	private int fullScore;
+
+	// 채점 완료된 결과 수
+	@Column(nullable = false)
+	private int gradedCount;
+
+	@Column(nullable = false)
+	private long scoreSum;
+
+	@Column(nullable = false)
+	private long scoreSquareSum;
+
+	@Column(nullable = false)
+	private int minScore;
+
+	@Column(nullable = false)
+	private int maxScore;
+
+	// 제출(자동 제출 포함)된 결과 수
+	@Column(nullable = false)
+	private int submittedCount;
+
+	// 구간별 인원 수 (쉼표로 구분)
+	@Column(nullable = false, length = 200)
+	private String histogram;
+
+	@Builder
+	private ExamScoreStatistics(Exam exam, int fullScore) {
+		this.exam = exam;
+		this.fullScore = fullScore;
+		reset();
+	}
+
+	// 채점된 점수 반영
+	public void recordGradedScore(int score) {
+		if (gradedCount == 0) {
+			minScore = score;
+			maxScore = score;
+		} else {
+			minScore = Math.min(minScore, score);
+			maxScore = Math.max(maxScore, score);
+		}
+
+		gradedCount++;
+		scoreSum += score;
+		scoreSquareSum += (long)score * score;
+
+		int[] buckets = getHistogramBuckets();
+		buckets[bucketOf(score)]++;
+		this.histogram = formatHistogram(buckets);
+	}
+
+	// 제출 수 반영
+	public void recordSubmissions(int count) {
+		this.submittedCount += count;
+	}
+
+	// 통계 초기화 (재계산 시 사용)
+	public void reset() {
+		this.gradedCount = 0;
+		this.scoreSum = 0;
+		this.scoreSquareSum = 0;
+		this.minScore = 0;
+		this.maxScore = 0;
+		this.submittedCount = 0;
+		this.histogram = formatHistogram(new int[HISTOGRAM_BUCKET_COUNT]);
+	}
+
+	// 분포 구간 계산 기준 만점 변경
+	public void updateFullScore(int fullScore) {
+		this.fullScore = fullScore;
+	}
+
+	// 평균 점수
+	public double getAverageScore() {
+		return gradedCount == 0 ? 0.0 : (double)scoreSum / gradedCount;
+	}
+
+	// 표준 편차
+	public double getStandardDeviation() {
+		if (gradedCount == 0) {
+			return 0.0;
+		}
+		double average = getAverageScore();
+		double variance = (double)scoreSquareSum / gradedCount - average * average;
+		return Math.sqrt(Math.max(variance, 0.0));
+	}
+
+	// 구간별 인원 수
+	public int[] getHistogramBuckets() {
+		return Arrays.stream(histogram.split(",")).mapToInt(Integer::parseInt).toArray();
+	}
+
+	private int bucketOf(int score) {
+		if (fullScore <= 0 || score <= 0) {
+			return 0;
+		}
+		int bucket = (int)((long)score * HISTOGRAM_BUCKET_COUNT / fullScore);
+		return Math.min(bucket, HISTOGRAM_BUCKET_COUNT - 1);
+	}
+
+	private static String formatHistogram(int[] buckets) {
+		return Arrays.stream(buckets).mapToObj(String::valueOf).collect(Collectors.joining(","));
+	}
+
+}
@@ -34,24 +34,10 @@ public class MultipleChoiceQuestion extends ExamQuestion {
 		super(questionText, examNumber, score, ExamQuestionType.MULTIPLE_CHOICE, exam, correctAnswer);
 	}
 
-	// 답안 검증
+	// 채점용 정답 정보 생성 (유효한 선택지 범위 내의 정답 번호와 일치해야 정답)
 	@Override
-	protected boolean doValidateAnswer(String studentAnswer) {
-		try {
-			// 선택지 번호가 숫자인지 확인
-			int selectedNumber = Integer.parseInt(studentAnswer);
-
-			// 유효한 선택지 범위인지 확인
-			if (selectedNumber < 1 || selectedNumber > choices.size()) {
-				return false;
-			}
-
-			// 정답과 일치하는지 확인
-			return studentAnswer.equals(getCorrectAnswer());
-
-		} catch (NumberFormatException e) {
-			return false;
-		}
+	public CompiledAnswer compileAnswer() {
+		return CompiledAnswer.multipleChoice(getScore(), getCorrectAnswer(), choices.size());
 	}
 
 	// 선택지 추가
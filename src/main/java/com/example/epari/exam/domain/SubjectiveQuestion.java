@@ -24,14 +24,10 @@ public class SubjectiveQuestion extends ExamQuestion {
 		super(questionText, examNumber, score, ExamQuestionType.SUBJECTIVE, exam, correctAnswer);
 	}
 
-	// 답안 검증
+	// 채점용 정답 정보 생성 (대소문자 무시, 앞뒤 공백 제거 후 비교)
 	@Override
-	protected boolean doValidateAnswer(String studentAnswer) {
-		// 대소문자 무시, 앞뒤 공백 제거 후 비교
-		String normalizedCorrectAnswer = getCorrectAnswer().trim().toLowerCase();
-		String normalizedStudentAnswer = studentAnswer.trim().toLowerCase();
-
-		return normalizedCorrectAnswer.equals(normalizedStudentAnswer);
+	public CompiledAnswer compileAnswer() {
+		return CompiledAnswer.subjective(getScore(), getCorrectAnswer());
 	}
 
 }
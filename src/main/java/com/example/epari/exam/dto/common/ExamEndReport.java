@@ -0,0 +1,39 @@
+package com.example.epari.exam.dto.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시험 종료 처리 결과 DTO
+ * 시험 단위로 한 번 수행된 강제 제출/채점/미제출 처리 건수와 소요 시간을 담음
+ */
+@Getter
+@Builder
+public class ExamEndReport {
+
+	private Long examId;
+
+	// 이번 호출에서 종료 처리를 수행했는지 여부 (이미 처리된 시험이면 false)
+	private boolean processed;
+
+	private int forceSubmittedCount;
+
+	private int gradedCount;
+
+	private int notSubmittedCount;
+
+	private long elapsedMillis;
+
+	public static ExamEndReport skipped(Long examId) {
+		return ExamEndReport.builder()
+				.examId(examId)
+				.processed(false)
+				.build();
+	}
+
+	// 처리된 시험 결과 수
+	public int getProcessedResultCount() {
+		return gradedCount + notSubmittedCount;
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.example.epari.exam.dto.common;
+
+import lombok.Getter;
+
+/**
+ * 시험별 결과 집계 DTO
+ * 시험 목록 조회 시 시험마다 결과를 조회하지 않도록 한 번의 쿼리로 집계한 값을 담음
+ */
+@Getter
+public class ExamResultAggregate {
+
+	private final Long examId;
+
+	private final int courseStudentCount;
+
+	private final int resultCount;
+
+	private final int submittedCount;
+
+	private final long earnedScoreSum;
+
+	public ExamResultAggregate(Long examId, Long courseStudentCount, Long resultCount, Long submittedCount,
+			Long earnedScoreSum) {
+		this.examId = examId;
+		this.courseStudentCount = courseStudentCount.intValue();
+		this.resultCount = resultCount.intValue();
+		this.submittedCount = submittedCount.intValue();
+		this.earnedScoreSum = earnedScoreSum;
+	}
+
+	// 시험 결과 평균 점수
+	public double getAverageScore() {
+		return resultCount == 0 ? 0.0 : (double)earnedScoreSum / resultCount;
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.example.epari.exam.dto.common;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.epari.exam.domain.Exam;
+import com.example.epari.exam.domain.ExamQuestion;
+import com.example.epari.exam.dto.response.ExamQuestionResponseDto;
+import com.example.epari.exam.dto.response.ExamResponseDto;
+import com.example.epari.global.common.enums.ExamStatus;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시험 응시 중 반복 조회되는 시험 정보의 불변 스냅샷
+ * 시험 일정/상태와 학생에게 공개되는 문제 정보만 담으며, 정답은 포함하지 않음
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class ExamSnapshot {
+
+	private final Long examId;
+
+	private final Long courseId;
+
+	// 스냅샷 생성 시점의 캐시 버전
+	private final long version;
+
+	private final String title;
+
+	private final String description;
+
+	private final LocalDateTime examDateTime;
+
+	private final Integer duration;
+
+	private final Integer totalScore;
+
+	private final ExamStatus status;
+
+	// 스냅샷 생성 시점의 시험 수정 시각 (일정 변경 여부 확인용)
+	private final LocalDateTime updatedAt;
+
+	private final ExamResponseDto.InstructorInfo instructor;
+
+	// 학생용 문제 목록 (문제 번호순, 정답 제외)
+	private final List<ExamQuestionResponseDto> questions;
+
+	// 문제 ID → 배점
+	private final Map<Long, Integer> questionScores;
+
+	// 강의/담당 강사가 함께 조회된 시험과 문제 목록으로 생성
+	public static ExamSnapshot of(Exam exam, List<? extends ExamQuestion> questions, long version) {
+		Map<Long, Integer> questionScores = new HashMap<>();
+		for (ExamQuestion question : questions) {
+			questionScores.put(question.getId(), question.getScore());
+		}
+
+		return ExamSnapshot.builder()
+				.examId(exam.getId())
+				.courseId(exam.getCourse().getId())
+				.version(version)
+				.title(exam.getTitle())
+				.description(exam.getDescription())
+				.examDateTime(exam.getExamDateTime())
+				.duration(exam.getDuration())
+				.totalScore(exam.getTotalScore())
+				.status(exam.getStatus())
+				.updatedAt(exam.getUpdatedAt())
+				.instructor(ExamResponseDto.InstructorInfo.from(exam.getCourse()))
+				.questions(questions.stream()
+						.map(ExamQuestionResponseDto::fromQuestionWithoutAnswer)
+						.toList())
+				.questionScores(Map.copyOf(questionScores))
+				.build();
+	}
+
+	// 시험에 속한 문제인지 여부
+	public boolean containsQuestion(Long questionId) {
+		return questionScores.containsKey(questionId);
+	}
+
+	public int getTotalQuestionCount() {
+		return questionScores.size();
+	}
+
+	public LocalDateTime getEndDateTime() {
+		return examDateTime.plusMinutes(duration);
+	}
+
+	// 시험 시작 전 여부 확인
+	public boolean isBeforeExam() {
+		return LocalDateTime.now().isBefore(examDateTime);
+	}
+
+	// 시험 종료 여부 확인
+	public boolean isAfterExam() {
+		return LocalDateTime.now().isAfter(getEndDateTime());
+	}
+
+	// 시험 진행 중 여부 확인
+	public boolean isDuringExam() {
+		return !isBeforeExam() && !isAfterExam();
+	}
+
+}
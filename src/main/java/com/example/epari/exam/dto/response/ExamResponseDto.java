@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import com.example.epari.course.domain.Course;
 import com.example.epari.exam.domain.Exam;
 import com.example.epari.exam.domain.ExamResult;
+import com.example.epari.exam.dto.common.ExamSnapshot;
 import com.example.epari.global.common.enums.ExamStatus;
 
 import lombok.Builder;
@@ -97,4 +98,23 @@ public class ExamResponseDto {
 				.build();
 	}
 
+	// 학생용 시험 응답 DTO (시험 스냅샷 기반)
+	public static ExamResponseDto fromSnapshotForStudent(ExamSnapshot snapshot, ExamResult result) {
+		boolean canViewQuestions = !snapshot.isBeforeExam();
+		return ExamResponseDto.builder()
+				.id(snapshot.getExamId())
+				.title(snapshot.getTitle())
+				.examDateTime(snapshot.getExamDateTime())
+				.duration(snapshot.getDuration())
+				.totalScore(snapshot.getTotalScore())
+				.description(snapshot.getDescription())
+				.courseId(snapshot.getCourseId())
+				.questions(canViewQuestions ? snapshot.getQuestions() : null)
+				.status(result != null ? result.getStatus() : null)
+				.submitTime(result != null ? result.getSubmitTime() : null)
+				.earnedScore(result != null ? result.getEarnedScore() : null)
+				.instructor(snapshot.getInstructor())
+				.build();
+	}
+
 }
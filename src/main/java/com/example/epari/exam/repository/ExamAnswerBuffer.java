@@ -0,0 +1,134 @@
+package com.example.epari.exam.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시험 답안 임시 저장 버퍼
+ * 임시 저장 답안을 시험 결과별 Redis 해시(문제 ID -> 답안)에 보관하고, 최종 제출/시험 종료 시 DB에 일괄 반영
+ * 버퍼는 애플리케이션 노드와 독립적으로 Redis에 남아 있으므로 노드가 중단되어도 시험 종료 처리 시 반영됨
+ * 버퍼가 유일한 사본이므로 Redis는 키를 임의로 제거하지 않도록 maxmemory-policy를 noeviction으로 운영해야 함
+ * (volatile-* 정책도 만료 시간이 있는 버퍼 키를 제거할 수 있음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ExamAnswerBuffer {
+
+	private static final String REQUIRED_EVICTION_POLICY = "noeviction";
+
+	// 반영한 답안과 값이 같은 필드만 삭제하고, 남은 답안이 없으면 시험별 목록에서도 제거
+	// (조회 후 커밋 전에 새로 임시 저장된 답안은 남김)
+	private static final RedisScript<Long> CLEAR_FLUSHED_SCRIPT = new DefaultRedisScript<>(
+			"for i = 1, #ARGV - 1, 2 do "
+					+ "if redis.call('hget', KEYS[1], ARGV[i]) == ARGV[i + 1] then redis.call('hdel', KEYS[1], ARGV[i]) end "
+					+ "end "
+					+ "if redis.call('hlen', KEYS[1]) == 0 then redis.call('srem', KEYS[2], ARGV[#ARGV]) return 1 end "
+					+ "return 0",
+			Long.class);
+
+	// 답안 기록, 시험별 목록 등록, 두 키의 만료 시간 갱신을 한 번의 왕복으로 원자적으로 처리
+	// (중간에 실패해 만료 시간 없는 버퍼 키가 남지 않도록 함)
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+			"redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) "
+					+ "redis.call('sadd', KEYS[2], ARGV[3]) "
+					+ "redis.call('expire', KEYS[1], ARGV[4]) "
+					+ "redis.call('expire', KEYS[2], ARGV[4]) "
+					+ "return 1",
+			Long.class);
+
+	private static final String ANSWER_KEY_PREFIX = "epari::exam-answers::result::";
+
+	private static final String EXAM_INDEX_KEY_PREFIX = "epari::exam-answers::exam::";
+
+	// 반영되지 못한 버퍼가 Redis에 무기한 남지 않도록 하는 만료 시간
+	private static final Duration BUFFER_TTL = Duration.ofDays(1);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// 임시 저장 답안 기록
+	public void save(Long examId, Long examResultId, Long questionId, String answer) {
+		redisTemplate.execute(SAVE_SCRIPT, List.of(answerKey(examResultId), examIndexKey(examId)),
+				questionId.toString(), answer, examResultId.toString(), String.valueOf(BUFFER_TTL.toSeconds()));
+	}
+
+	// 시험 결과의 버퍼된 답안 조회 (문제 ID -> 답안)
+	public Map<Long, String> findAnswers(Long examResultId) {
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(answerKey(examResultId));
+
+		Map<Long, String> answers = new HashMap<>();
+		entries.forEach((questionId, answer) -> answers.put(Long.valueOf(questionId.toString()), answer.toString()));
+		return answers;
+	}
+
+	// 버퍼된 답안이 있는 시험 결과 ID 조회
+	public Set<Long> findResultIds(Long examId) {
+		Set<String> members = redisTemplate.opsForSet().members(examIndexKey(examId));
+		if (members == null) {
+			return Set.of();
+		}
+		return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+	}
+
+	// 특정 문제의 버퍼된 답안 제거 (최종 제출된 문제)
+	public void remove(Long examResultId, Long questionId) {
+		redisTemplate.opsForHash().delete(answerKey(examResultId), questionId.toString());
+	}
+
+	// DB에 반영한 답안만 버퍼에서 삭제 (반영할 때 읽은 값과 같은 답안만 삭제)
+	public void clearFlushed(Long examId, Long examResultId, Map<Long, String> flushedAnswers) {
+		List<String> args = new ArrayList<>();
+		flushedAnswers.forEach((questionId, answer) -> {
+			args.add(questionId.toString());
+			args.add(answer);
+		});
+		args.add(examResultId.toString());
+
+		redisTemplate.execute(CLEAR_FLUSHED_SCRIPT, List.of(answerKey(examResultId), examIndexKey(examId)),
+				args.toArray());
+	}
+
+	// 기동 시 Redis 제거 정책 확인 (CONFIG 명령이 막힌 관리형 Redis에서는 운영 설정으로 보장해야 함)
+	@EventListener(ApplicationReadyEvent.class)
+	public void verifyEvictionPolicy() {
+		try {
+			Properties config = redisTemplate.execute((RedisCallback<Properties>)connection ->
+					connection.serverCommands().getConfig("maxmemory-policy"));
+			String policy = config != null ? config.getProperty("maxmemory-policy") : null;
+			if (policy != null && !REQUIRED_EVICTION_POLICY.equals(policy)) {
+				log.error("Redis maxmemory-policy is '{}', buffered exam answers may be evicted. "
+						+ "Configure '{}' for the instance holding epari::exam-answers::* keys.",
+						policy, REQUIRED_EVICTION_POLICY);
+			}
+		} catch (Exception e) {
+			log.info("Could not read Redis maxmemory-policy, make sure it is '{}' - {}", REQUIRED_EVICTION_POLICY,
+					e.getMessage());
+		}
+	}
+
+	private String answerKey(Long examResultId) {
+		return ANSWER_KEY_PREFIX + examResultId;
+	}
+
+	private String examIndexKey(Long examId) {
+		return EXAM_INDEX_KEY_PREFIX + examId;
+	}
+
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.epari.exam.domain.ExamQuestion;
+import com.example.epari.exam.domain.MultipleChoiceQuestion;
+import com.example.epari.exam.domain.SubjectiveQuestion;
 
 /**
  * 시험 문제 리포지토리
@@ -24,6 +26,21 @@ public interface ExamQuestionRepository extends JpaRepository<ExamQuestion, Long
 			@Param("questionId") Long questionId
 	);
 
+	// 시험에 속한 문제인지 여부 확인
+	@Query("SELECT COUNT(q) > 0 FROM ExamQuestion q WHERE q.exam.id = :examId AND q.id = :questionId")
+	boolean existsByExamIdAndId(
+			@Param("examId") Long examId,
+			@Param("questionId") Long questionId
+	);
+
+	// 시험의 객관식 문제와 선택지 일괄 조회 (채점용 정답표 생성 시 선택지 지연 로딩 방지)
+	@Query("SELECT DISTINCT q FROM MultipleChoiceQuestion q LEFT JOIN FETCH q.choices WHERE q.exam.id = :examId")
+	List<MultipleChoiceQuestion> findMultipleChoiceQuestionsWithChoices(@Param("examId") Long examId);
+
+	// 시험의 주관식 문제 조회
+	@Query("SELECT q FROM SubjectiveQuestion q WHERE q.exam.id = :examId")
+	List<SubjectiveQuestion> findSubjectiveQuestions(@Param("examId") Long examId);
+
 	// 시험 문제에 대한 응시 제출 여부 확인
 	@Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM ExamScore s WHERE s.question.id = :questionId")
 	boolean hasSubmissions(@Param("questionId") Long questionId);
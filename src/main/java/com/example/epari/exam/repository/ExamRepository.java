@@ -1,10 +1,12 @@
 package com.example.epari.exam.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -25,13 +27,14 @@ public interface ExamRepository extends JpaRepository<Exam, Long> {
 	// 강사가 출제한 시험 목록 조회
 	@Query("SELECT e FROM Exam e " +
 			"JOIN FETCH e.course c " +
-			"JOIN c.instructor i " +
+			"JOIN FETCH c.instructor i " +
 			"WHERE i.id = :instructorId")
 	List<Exam> findByInstructorId(@Param("instructorId") Long instructorId);
 
 	// 학생이 수강중인 강의의 시험 목록 조회
 	@Query("SELECT DISTINCT e FROM Exam e " +
 			"JOIN FETCH e.course c " +
+			"JOIN FETCH c.instructor " +
 			"JOIN c.courseStudents cs " +
 			"JOIN cs.student s " +
 			"WHERE s.id = :studentId")
@@ -44,7 +47,46 @@ public interface ExamRepository extends JpaRepository<Exam, Long> {
 			"WHERE e.id = :examId")
 	Optional<Exam> findByIdWithQuestionsAndCourse(@Param("examId") Long examId);
 
+	// 강의, 담당 강사와 함께 시험 조회 (시험 스냅샷 생성용)
+	@Query("SELECT e FROM Exam e " +
+			"JOIN FETCH e.course c " +
+			"JOIN FETCH c.instructor " +
+			"WHERE e.id = :examId")
+	Optional<Exam> findWithCourseAndInstructorById(@Param("examId") Long examId);
+
+	// 시험 수정 시각 조회 (시험 스냅샷 일정 확인용)
+	@Query("SELECT e.updatedAt FROM Exam e WHERE e.id = :examId")
+	Optional<LocalDateTime> findUpdatedAtById(@Param("examId") Long examId);
+
 	// 특정 상태의 시험 목록 조회
 	List<Exam> findByStatusIn(Collection<ExamStatus> statuses);
 
+	// 지정 시각 이전에 시작하는 특정 상태의 시험 조회 (스케줄 예약용)
+	@Query("SELECT e FROM Exam e WHERE e.status IN :statuses AND e.examDateTime <= :horizon")
+	List<Exam> findByStatusInAndStartsBefore(
+			@Param("statuses") Collection<ExamStatus> statuses,
+			@Param("horizon") LocalDateTime horizon
+	);
+
+	// 지정 시각 이후에 시작한 특정 상태의 시험 조회 (통계 재계산용)
+	@Query("SELECT e FROM Exam e WHERE e.status IN :statuses AND e.examDateTime >= :since")
+	List<Exam> findByStatusInAndStartsAfter(
+			@Param("statuses") Collection<ExamStatus> statuses,
+			@Param("since") LocalDateTime since
+	);
+
+	// 현재 상태와 일정이 확인한 값과 일치하는 경우에만 시험 상태 변경
+	// 여러 노드 중 한 곳만 상태 전이에 성공하며, 확인 이후 일정이 변경되었으면 전이하지 않음
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Exam e SET e.status = :newStatus WHERE e.id = :examId AND e.status IN :expectedStatuses "
+			+ "AND e.examDateTime = :examDateTime AND e.duration = :duration AND e.examDateTime <= :now")
+	int updateStatusIfScheduleMatches(
+			@Param("examId") Long examId,
+			@Param("expectedStatuses") Collection<ExamStatus> expectedStatuses,
+			@Param("newStatus") ExamStatus newStatus,
+			@Param("examDateTime") LocalDateTime examDateTime,
+			@Param("duration") Integer duration,
+			@Param("now") LocalDateTime now
+	);
+
 }
@@ -1,14 +1,17 @@
 package com.example.epari.exam.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.epari.exam.domain.ExamResult;
+import com.example.epari.exam.dto.common.ExamResultAggregate;
 import com.example.epari.global.common.enums.ExamStatus;
 
 /**
@@ -24,6 +27,17 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, Long> {
 			@Param("studentId") Long studentId
 	);
 
+	// 특정 학생의 특정 시험 결과를 시험 정보와 함께 조회
+	@Query("""
+			SELECT er FROM ExamResult er
+			JOIN FETCH er.exam e
+			WHERE e.id = :examId AND er.student.id = :studentId
+			""")
+	Optional<ExamResult> findWithExamByExamIdAndStudentId(
+			@Param("examId") Long examId,
+			@Param("studentId") Long studentId
+	);
+
 	// 특정 시험의 모든 결과 조회
 	@Query("SELECT er FROM ExamResult er WHERE er.exam.id = :examId")
 	List<ExamResult> findByExamId(@Param("examId") Long examId);
@@ -45,14 +59,113 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, Long> {
 			@Param("status") ExamStatus status
 	);
 
-	// 시간 초과된 진행중 시험 조회 (자동 제출용)
+	// 진행중인 시험 결과의 임시 저장 답안을 일괄 제출 처리 (시험 종료 시 강제 제출용)
+	@Modifying
 	@Query("""
-			SELECT er FROM ExamResult er
-			JOIN FETCH er.exam e
-			WHERE er.status = 'IN_PROGRESS'
-			AND e.examDateTime <= :baseTime
+			UPDATE ExamScore s SET s.temporary = false
+			WHERE s.temporary = true
+			AND s.examResult.id IN (
+				SELECT er.id FROM ExamResult er
+				WHERE er.exam.id = :examId AND er.status = :status
+			)
+			""")
+	int markAnswersSubmittedByExamIdAndStatus(
+			@Param("examId") Long examId,
+			@Param("status") ExamStatus status
+	);
+
+	// 특정 상태의 시험 결과를 일괄 상태 변경 (시험 종료 시 강제 제출용)
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			UPDATE ExamResult er SET er.status = :newStatus, er.submitTime = :submitTime
+			WHERE er.exam.id = :examId AND er.status = :status
+			""")
+	int updateStatusByExamIdAndStatus(
+			@Param("examId") Long examId,
+			@Param("status") ExamStatus status,
+			@Param("newStatus") ExamStatus newStatus,
+			@Param("submitTime") LocalDateTime submitTime
+	);
+
+	// 특정 상태의 시험 결과 ID 조회 (일괄 채점용)
+	@Query("SELECT er.id FROM ExamResult er WHERE er.exam.id = :examId AND er.status = :status ORDER BY er.id")
+	List<Long> findIdsByExamIdAndStatus(
+			@Param("examId") Long examId,
+			@Param("status") ExamStatus status
+	);
+
+	// 시험 결과와 답안 일괄 조회 (일괄 채점용)
+	@Query("SELECT DISTINCT er FROM ExamResult er LEFT JOIN FETCH er.scores WHERE er.id IN :ids")
+	List<ExamResult> findAllWithScoresByIdIn(@Param("ids") List<Long> ids);
+
+	// 시험 결과가 없는 수강생의 미제출 결과 일괄 생성
+	@Modifying
+	@Query(value = """
+			INSERT INTO exam_results (exam_id, student_id, submit_time, total_score, earned_score,
+				submitted_question_count, status, created_at, updated_at)
+			SELECT :examId, cs.student_id, :now, 0, 0, 0, 'NOT_SUBMITTED', :now, :now
+			FROM course_students cs
+			WHERE cs.course_id = :courseId
+			AND NOT EXISTS (
+				SELECT 1 FROM exam_results er
+				WHERE er.exam_id = :examId AND er.student_id = cs.student_id
+			)
+			""", nativeQuery = true)
+	int insertNotSubmittedResults(
+			@Param("examId") Long examId,
+			@Param("courseId") Long courseId,
+			@Param("now") LocalDateTime now
+	);
+
+	// 시험별 결과 집계 조회 (수강생 수, 결과 수, 제출 수, 획득 점수 합계)
+	@Query("""
+			SELECT new com.example.epari.exam.dto.common.ExamResultAggregate(
+			    e.id,
+			    (SELECT COUNT(cs) FROM CourseStudent cs WHERE cs.course.id = e.course.id),
+			    COUNT(er),
+			    SUM(CASE WHEN er.status IN :submittedStatuses THEN 1L ELSE 0L END),
+			    SUM(er.earnedScore)
+			)
+			FROM ExamResult er
+			JOIN er.exam e
+			WHERE e.id IN :examIds
+			GROUP BY e.id, e.course.id
+			""")
+	List<ExamResultAggregate> findAggregatesByExamIdIn(
+			@Param("examIds") Collection<Long> examIds,
+			@Param("submittedStatuses") Collection<ExamStatus> submittedStatuses
+	);
+
+	// 특정 시험의 특정 상태 결과 총점 조회 (통계 재계산용)
+	@Query("SELECT er.totalScore FROM ExamResult er WHERE er.exam.id = :examId AND er.status = :status")
+	List<Integer> findTotalScoresByExamIdAndStatus(
+			@Param("examId") Long examId,
+			@Param("status") ExamStatus status
+	);
+
+	// 특정 시험의 특정 상태 결과 수 조회
+	@Query("SELECT COUNT(er) FROM ExamResult er WHERE er.exam.id = :examId AND er.status IN :statuses")
+	long countByExamIdAndStatusIn(
+			@Param("examId") Long examId,
+			@Param("statuses") Collection<ExamStatus> statuses
+	);
+
+	// 특정 학생의 여러 시험 결과 조회 (시험 목록 조회용)
+	@Query("SELECT er FROM ExamResult er WHERE er.student.id = :studentId AND er.exam.id IN :examIds")
+	List<ExamResult> findByStudentIdAndExamIdIn(
+			@Param("studentId") Long studentId,
+			@Param("examIds") Collection<Long> examIds
+	);
+
+	// 특정 시험의 결과를 학생, 답안, 문제와 함께 조회 (시험별 학생 결과 목록용)
+	@Query("""
+			SELECT DISTINCT er FROM ExamResult er
+			JOIN FETCH er.student
+			LEFT JOIN FETCH er.scores s
+			LEFT JOIN FETCH s.question
+			WHERE er.exam.id = :examId
 			""")
-	List<ExamResult> findExpiredExams(@Param("baseTime") LocalDateTime baseTime);
+	List<ExamResult> findWithStudentAndScoresByExamId(@Param("examId") Long examId);
 
 	// 특정 학생의 모든 시험 결과 조회 (시험 정보와 점수 포함)
 	@Query("""
@@ -0,0 +1,39 @@
+package com.example.epari.exam.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.epari.exam.domain.ExamScoreStatistics;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * 시험별 점수 통계 리포지토리
+ */
+public interface ExamScoreStatisticsRepository extends JpaRepository<ExamScoreStatistics, Long> {
+
+	// 시험 통계 조회
+	@Query("SELECT s FROM ExamScoreStatistics s WHERE s.exam.id = :examId")
+	Optional<ExamScoreStatistics> findByExamId(@Param("examId") Long examId);
+
+	// 시험 통계 갱신용 조회 (동시 갱신 방지를 위해 행 잠금)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM ExamScoreStatistics s WHERE s.exam.id = :examId")
+	Optional<ExamScoreStatistics> findByExamIdForUpdate(@Param("examId") Long examId);
+
+	// 제출 수 증가 (조회 없이 원자적으로 갱신)
+	@Modifying
+	@Query("UPDATE ExamScoreStatistics s SET s.submittedCount = s.submittedCount + :count WHERE s.exam.id = :examId")
+	int increaseSubmittedCount(@Param("examId") Long examId, @Param("count") int count);
+
+	// 시험 통계 삭제
+	@Modifying
+	@Query("DELETE FROM ExamScoreStatistics s WHERE s.exam.id = :examId")
+	void deleteByExamId(@Param("examId") Long examId);
+
+}
@@ -1,77 +1,214 @@
 package com.example.epari.exam.scheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.example.epari.exam.domain.Exam;
-import com.example.epari.exam.domain.ExamResult;
+import com.example.epari.exam.dto.common.ExamEndReport;
 import com.example.epari.exam.repository.ExamRepository;
-import com.example.epari.exam.repository.ExamResultRepository;
 import com.example.epari.exam.service.ExamStatusService;
 import com.example.epari.global.common.enums.ExamStatus;
+import com.example.epari.global.event.ExamScheduleChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /*
  * 시험 스케줄러
+ * 시험 시작/종료 시각에 맞춰 상태 전이 작업을 예약하고, 해당 시각에 정확히 실행
+ * 상태 전이는 DB 조건부 갱신으로 선점하므로 여러 노드가 같은 작업을 예약해도 한 번만 처리됨
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ExamScheduler {
 
-	private final ExamRepository examRepository;
+	// 예약 대상 조회 범위 (동기화 주기보다 길어야 누락이 없음)
+	private static final Duration SCHEDULE_HORIZON = Duration.ofMinutes(30);
+
+	private static final List<ExamStatus> ACTIVE_STATUSES = List.of(ExamStatus.SCHEDULED, ExamStatus.IN_PROGRESS);
 
-	private final ExamResultRepository examResultRepository;
+	private final ExamRepository examRepository;
 
 	private final ExamStatusService examStatusService;
 
-	@Scheduled(fixedRate = 60000)
-	@Transactional
-	public void processExams() {
-		if (!hasActiveExams()) {
-			log.debug("No active exams found, skipping scheduler");
-			return;
-		}
+	private final TaskScheduler taskScheduler;
+
+	// 시험 ID별 예약 작업
+	private final Map<Long, ScheduledExam> scheduledExams = new ConcurrentHashMap<>();
 
-		LocalDateTime now = LocalDateTime.now();
+	// 애플리케이션 기동 시 DB 기준으로 예약 작업 재구성
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildSchedules() {
+		syncSchedules();
+	}
+
+	// 예약 범위 갱신 및 다른 노드에서 변경된 시험 일정 반영
+	@Scheduled(fixedDelay = 600000, initialDelay = 600000)
+	public void syncSchedules() {
+		LocalDateTime horizon = LocalDateTime.now().plus(SCHEDULE_HORIZON);
+		List<Exam> exams = examRepository.findByStatusInAndStartsBefore(ACTIVE_STATUSES, horizon);
+
+		// 삭제/종료되었거나 예약 범위 밖으로 옮겨진 시험의 작업 취소 (범위에 들어오면 다음 동기화에서 재예약)
+		Set<Long> activeExamIds = exams.stream().map(Exam::getId).collect(Collectors.toSet());
+		scheduledExams.keySet().stream()
+				.filter(examId -> !activeExamIds.contains(examId))
+				.toList()
+				.forEach(this::cancel);
 
-		List<Exam> scheduledExams = examRepository.findByStatusIn(Collections.singletonList(ExamStatus.SCHEDULED));
-		for (Exam exam : scheduledExams) {
-			if (!exam.isBeforeExam() && !exam.isAfterExam()) {
-				exam.updateStatus(ExamStatus.IN_PROGRESS);
-				examRepository.save(exam);
-				log.info("Exam {} status changed to IN_PROGRESS", exam.getId());
+		// 일정이 바뀐 시험은 register에서 기존 작업을 취소하고 재예약
+		for (Exam exam : exams) {
+			try {
+				register(exam.getId(), exam.getExamDateTime(), exam.getEndDateTime());
+			} catch (Exception e) {
+				log.error("Failed to schedule exam - examId: " + exam.getId(), e);
 			}
 		}
+		log.debug("Exam schedules synchronized - count: {}", scheduledExams.size());
+	}
+
+	// 시험 생성/수정/삭제 커밋 후 예약 작업 갱신
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleExamScheduleChanged(ExamScheduleChangedEvent event) {
+		if (event.isDeleted()) {
+			cancel(event.getExamId());
+			return;
+		}
+		register(event.getExamId(), event.getStartDateTime(), event.getEndDateTime());
+	}
 
-		List<ExamResult> expiredResults = examResultRepository.findExpiredExams(now);
-
-		if (!expiredResults.isEmpty()) {
-			log.info("Found {} expired exams to process", expiredResults.size());
-			for (ExamResult result : expiredResults) {
-				try {
-					// ExamStatusService의 기존 로직 활용
-					examStatusService.processExamEnd(result.getExam());
-					log.info("Exam processed successfully - examId: {}", result.getExam().getId());
-				} catch (Exception e) {
-					log.error("Failed to process exam - examId: " + result.getExam().getId(), e);
+	// 시험 시작/종료 작업 예약 (일정이 바뀐 경우 기존 작업을 취소하고 재예약)
+	private void register(Long examId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+		scheduledExams.compute(examId, (id, current) -> {
+			if (current != null) {
+				if (current.matches(startDateTime, endDateTime)) {
+					return current;
 				}
+				current.cancel();
+			}
+
+			ScheduledFuture<?> startTask = taskScheduler.schedule(() -> fireStart(id),
+					startDateTime.atZone(ZoneId.systemDefault()).toInstant());
+			ScheduledFuture<?> endTask = taskScheduler.schedule(() -> fireEnd(id, endDateTime),
+					endDateTime.atZone(ZoneId.systemDefault()).toInstant());
+			log.info("Exam scheduled - examId: {}, start: {}, end: {}", id, startDateTime, endDateTime);
+
+			return new ScheduledExam(startDateTime, endDateTime, startTask, endTask);
+		});
+	}
+
+	// 예약 작업 취소
+	private void cancel(Long examId) {
+		ScheduledExam removed = scheduledExams.remove(examId);
+		if (removed != null) {
+			removed.cancel();
+			log.info("Exam schedule cancelled - examId: {}", examId);
+		}
+	}
+
+	// 시험 시작 시각 도달
+	private void fireStart(Long examId) {
+		try {
+			if (examStatusService.processExamStart(examId)) {
+				log.info("Exam {} status changed to IN_PROGRESS", examId);
+				return;
 			}
+		} catch (Exception e) {
+			log.error("Failed to start exam - examId: " + examId, e);
+			return;
+		}
+		// 다른 노드에서 처리되었거나 일정이 변경된 경우 DB 기준으로 예약 갱신
+		resync(examId);
+	}
+
+	// 시험 종료 시각 도달
+	private void fireEnd(Long examId, LocalDateTime endDateTime) {
+		ExamEndReport report;
+		try {
+			report = examStatusService.processExamEnd(examId);
+		} catch (Exception e) {
+			log.error("Failed to process exam - examId: " + examId, e);
+			removeIfEndsAt(examId, endDateTime);
+			return;
+		}
+
+		if (report.isProcessed()) {
+			log.info("Exam processed successfully - examId: {}, results: {}, elapsed: {}ms", examId,
+					report.getProcessedResultCount(), report.getElapsedMillis());
+			removeIfEndsAt(examId, endDateTime);
+			return;
 		}
+		// 다른 노드에서 처리되었거나 일정이 변경된 경우 DB 기준으로 예약 갱신
+		resync(examId);
 	}
 
-	private boolean hasActiveExams() {
-		return !examRepository.findByStatusIn(
-				Arrays.asList(ExamStatus.SCHEDULED, ExamStatus.IN_PROGRESS)
-		).isEmpty();
+	// DB의 현재 일정으로 예약 작업 갱신 (진행 대상이 아니면 취소)
+	private void resync(Long examId) {
+		try {
+			examRepository.findById(examId)
+					.filter(exam -> ACTIVE_STATUSES.contains(exam.getStatus()))
+					.ifPresentOrElse(exam -> register(examId, exam.getExamDateTime(), exam.getEndDateTime()),
+							() -> cancel(examId));
+		} catch (Exception e) {
+			log.error("Failed to resync exam schedule - examId: " + examId, e);
+		}
+	}
+
+	// 처리 도중 일정이 변경되어 재예약된 경우는 유지
+	private void removeIfEndsAt(Long examId, LocalDateTime endDateTime) {
+		scheduledExams.computeIfPresent(examId,
+				(id, current) -> current.getEndDateTime().equals(endDateTime) ? null : current);
+	}
+
+	/*
+	 * 시험 하나에 대한 시작/종료 예약 작업
+	 */
+	private static class ScheduledExam {
+
+		private final LocalDateTime startDateTime;
+
+		private final LocalDateTime endDateTime;
+
+		private final ScheduledFuture<?> startTask;
+
+		private final ScheduledFuture<?> endTask;
+
+		ScheduledExam(LocalDateTime startDateTime, LocalDateTime endDateTime,
+				ScheduledFuture<?> startTask, ScheduledFuture<?> endTask) {
+			this.startDateTime = startDateTime;
+			this.endDateTime = endDateTime;
+			this.startTask = startTask;
+			this.endTask = endTask;
+		}
+
+		LocalDateTime getEndDateTime() {
+			return endDateTime;
+		}
+
+		boolean matches(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+			return Objects.equals(this.startDateTime, startDateTime) && Objects.equals(this.endDateTime, endDateTime);
+		}
+
+		void cancel() {
+			startTask.cancel(false);
+			endTask.cancel(false);
+		}
+
 	}
 
 }
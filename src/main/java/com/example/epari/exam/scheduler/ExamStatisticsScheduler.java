@@ -0,0 +1,54 @@
+package com.example.epari.exam.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.epari.exam.domain.Exam;
+import com.example.epari.exam.repository.ExamRepository;
+import com.example.epari.exam.service.ExamStatisticsService;
+import com.example.epari.global.common.enums.ExamStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 시험 통계 재계산 스케줄러
+ * 점진적으로 갱신된 통계가 시험 결과와 어긋나지 않도록 최근 종료된 시험의 통계를 주기적으로 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExamStatisticsScheduler {
+
+	// 재계산 대상 기간 (재채점 등으로 결과가 바뀔 수 있는 최근 시험)
+	private static final Duration REBUILD_WINDOW = Duration.ofDays(7);
+
+	private static final List<ExamStatus> FINISHED_STATUSES = List.of(ExamStatus.GRADED, ExamStatus.COMPLETED);
+
+	private final ExamRepository examRepository;
+
+	private final ExamStatisticsService examStatisticsService;
+
+	// 매일 새벽 4시 실행
+	@Scheduled(cron = "0 0 4 * * *")
+	public void rebuildRecentStatistics() {
+		LocalDateTime since = LocalDateTime.now().minus(REBUILD_WINDOW);
+		List<Exam> exams = examRepository.findByStatusInAndStartsAfter(FINISHED_STATUSES, since);
+
+		int rebuiltCount = 0;
+		for (Exam exam : exams) {
+			try {
+				examStatisticsService.rebuild(exam.getId());
+				rebuiltCount++;
+			} catch (Exception e) {
+				log.error("Failed to rebuild exam statistics - examId: " + exam.getId(), e);
+			}
+		}
+		log.info("Exam statistics rebuilt - count: {}/{}", rebuiltCount, exams.size());
+	}
+
+}
@@ -1,22 +1,23 @@
 package com.example.epari.exam.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.epari.course.domain.CourseStudent;
-import com.example.epari.course.repository.CourseStudentRepository;
-import com.example.epari.exam.domain.Exam;
+import com.example.epari.exam.domain.ExamAnswerKey;
 import com.example.epari.exam.domain.ExamResult;
 import com.example.epari.exam.domain.ExamScore;
+import com.example.epari.exam.domain.ExamQuestion;
+import com.example.epari.exam.repository.ExamQuestionRepository;
 import com.example.epari.exam.repository.ExamResultRepository;
-import com.example.epari.exam.util.ScoreCalculator;
 import com.example.epari.global.common.enums.ExamStatus;
 import com.example.epari.global.validator.ExamGradingValidator;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,49 +31,55 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ExamGradingService {
 
+	// 일괄 채점 시 한 번에 조회/반영하는 시험 결과 수
+	private static final int GRADING_CHUNK_SIZE = 100;
+
 	private final ExamResultRepository examResultRepository;
 
-	private final CourseStudentRepository courseStudentRepository;
+	private final ExamQuestionRepository examQuestionRepository;
 
 	private final ExamGradingValidator examGradingValidator;
 
-	// 시험 결과 채점 및 미제출자 처리
-	public void processGrading(ExamResult examResult) {
-		examGradingValidator.validateExamResultForGrading(examResult.getId());
-		Exam exam = examResult.getExam();
-
-		// 1. 미제출자 처리
-		List<CourseStudent> courseStudents = courseStudentRepository.findAllCourseStudentsByCourseId(
-				exam.getCourse().getId());
-		List<Long> submittedStudentIds = examResultRepository.findByExamId(exam.getId())
-				.stream()
-				.map(result -> result.getStudent().getId())
-				.collect(Collectors.toList());
-
-		// 미제출자들의 ExamResult 생성
-		for (CourseStudent courseStudent : courseStudents) {
-			if (!submittedStudentIds.contains(courseStudent.getStudent().getId())) {
-				ExamResult notSubmittedResult = ExamResult.builder()
-						.exam(exam)
-						.student(courseStudent.getStudent())
-						.status(ExamStatus.NOT_SUBMITTED)
-						.submitTime(LocalDateTime.now())
-						.build();
-				examResultRepository.save(notSubmittedResult);
-				log.info("Created NOT_SUBMITTED result for student: {}", courseStudent.getId());
-			}
-		}
+	private final ExamStatisticsService examStatisticsService;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// 시험 단위 일괄 채점 및 미제출자 처리
+	// 정답 정보는 한 번만 조회하고, 제출된 결과는 청크 단위로 조회/채점 후 배치로 반영
+	// 청크마다 영속성 컨텍스트를 비우므로, 호출한 쪽은 채점 후 필요한 엔티티를 다시 조회해야 함
+	public GradingSummary gradeExam(Long examId, Long courseId) {
+		// 1. 미제출자 결과 일괄 생성
+		int notSubmittedCount = examResultRepository.insertNotSubmittedResults(examId, courseId,
+				LocalDateTime.now());
+
+		// 2. 채점용 정답표 생성 (시험당 한 번 DB에서 조회)
+		ExamAnswerKey answerKey = loadAnswerKey(examId);
 
-		// 2. 기존 채점 로직
-		if (examResult.getStatus() == ExamStatus.SUBMITTED) {
-			for (ExamScore score : examResult.getScores()) {
-				int earnedScore = gradeAnswer(score);
-				score.updateScore(earnedScore);
+		// 3. 제출된 결과 청크 단위 채점
+		List<Long> resultIds = examResultRepository.findIdsByExamIdAndStatus(examId, ExamStatus.SUBMITTED);
+		List<Integer> gradedScores = new ArrayList<>(resultIds.size());
+
+		for (int from = 0; from < resultIds.size(); from += GRADING_CHUNK_SIZE) {
+			List<Long> chunkIds = resultIds.subList(from, Math.min(from + GRADING_CHUNK_SIZE, resultIds.size()));
+
+			for (ExamResult examResult : examResultRepository.findAllWithScoresByIdIn(chunkIds)) {
+				gradeScores(examResult, answerKey);
+				examResult.updateScore();
+				gradedScores.add(examResult.getTotalScore());
 			}
 
-			examResult.updateScore();
-			examResultRepository.save(examResult);
+			// 청크 단위로 변경 내용을 배치 반영하고, 반영한 결과와 답안은 영속성 컨텍스트에서 제거
+			examResultRepository.flush();
+			entityManager.clear();
 		}
+
+		// 4. 시험 통계에 채점 결과 반영
+		examStatisticsService.recordGradedScores(examId, gradedScores);
+
+		log.info("Exam graded - examId: {}, graded: {}, notSubmitted: {}", examId, gradedScores.size(),
+				notSubmittedCount);
+		return new GradingSummary(gradedScores.size(), notSubmittedCount);
 	}
 
 	// 시험 결과의 총점 정합성 검증
@@ -87,26 +94,47 @@ public class ExamGradingService {
 	// 개별 시험 결과 채점
 	public void gradeExamResult(Long examResultId) {
 		ExamResult examResult = examGradingValidator.validateExamResultForGrading(examResultId);
+		ExamAnswerKey answerKey = loadAnswerKey(examResult.getExam().getId());
 
 		// 각 문제별 채점
-		for (ExamScore score : examResult.getScores()) {
-			int earnedScore = gradeAnswer(score);
-			score.updateScore(earnedScore);
-		}
+		gradeScores(examResult, answerKey);
 
 		// 채점 결과 반영
 		examResult.updateScore();
 		examResultRepository.save(examResult);
+		examStatisticsService.recordGradedScores(examResult.getExam().getId(), List.of(examResult.getTotalScore()));
 		log.info("Exam graded - resultId: {}, totalScore: {}", examResult.getId(), examResult.getEarnedScore());
 	}
 
-	// 개별 문제 답안 채점
-	private int gradeAnswer(ExamScore score) {
-		String studentAnswer = score.getStudentAnswer();
-		if (score.getQuestion().validateAnswer(studentAnswer)) {
-			return score.getQuestion().getScore();
+	// DB의 현재 문제/정답으로 정답표 생성
+	// 채점 결과는 영구 저장되므로, 다른 서버의 무효화를 놓쳤을 수 있는 시험 스냅샷 캐시의 정답표는 사용하지 않음
+	private ExamAnswerKey loadAnswerKey(Long examId) {
+		List<ExamQuestion> questions = new ArrayList<>(
+				examQuestionRepository.findMultipleChoiceQuestionsWithChoices(examId));
+		questions.addAll(examQuestionRepository.findSubjectiveQuestions(examId));
+		return ExamAnswerKey.compile(questions);
+	}
+
+	// 시험 결과의 문제별 답안 채점
+	private void gradeScores(ExamResult examResult, ExamAnswerKey answerKey) {
+		for (ExamScore score : examResult.getScores()) {
+			score.updateScore(answerKey.grade(score.getQuestion().getId(), score.getStudentAnswer()));
 		}
-		return 0;
+	}
+
+	// 시험 단위 일괄 채점 결과
+	@Getter
+	public static class GradingSummary {
+
+		private final int gradedCount;
+
+		private final int notSubmittedCount;
+
+		public GradingSummary(int gradedCount, int notSubmittedCount) {
+			this.gradedCount = gradedCount;
+			this.notSubmittedCount = notSubmittedCount;
+		}
+
 	}
 
 	// 시험 점수 통계 정보
@@ -1,5 +1,6 @@
 package com.example.epari.exam.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,7 @@ import com.example.epari.exam.dto.response.ExamQuestionResponseDto;
 import com.example.epari.exam.repository.ExamQuestionRepository;
 import com.example.epari.global.common.enums.ExamQuestionType;
 import com.example.epari.global.common.enums.ExamStatus;
+import com.example.epari.global.event.ExamChangedEvent;
 import com.example.epari.global.validator.ExamQuestionValidator;
 import com.example.epari.global.validator.ExamStatusValidator;
 import com.example.epari.user.domain.Instructor;
@@ -37,6 +39,8 @@ public class ExamQuestionService {
 
 	private final CourseAccessValidator courseAccessValidator;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	// 문제 생성
 	public Long addQuestion(Long courseId, Long examId, CreateQuestionRequestDto dto, String instructorEmail) {
 		Instructor instructor = courseAccessValidator.validateInstructorEmail(instructorEmail);
@@ -46,6 +50,7 @@ public class ExamQuestionService {
 
 		ExamQuestion question = dto.toEntity(exam);
 		exam.addQuestion(question);
+		eventPublisher.publishEvent(ExamChangedEvent.of(examId));
 		return question.getId();
 	}
 
@@ -60,6 +65,7 @@ public class ExamQuestionService {
 		examStatusValidator.validateExamStatus(examId, ExamStatus.SCHEDULED);
 
 		exam.reorderQuestions(questionId, newNumber);
+		eventPublisher.publishEvent(ExamChangedEvent.of(examId));
 	}
 
 	// 문제 수정
@@ -72,6 +78,7 @@ public class ExamQuestionService {
 
 		// Validator로 이동
 		examQuestionValidator.validateQuestionTypeUnchanged(question, requestDto.getType());
+		eventPublisher.publishEvent(ExamChangedEvent.of(examId));
 
 		// 문제 유형에 따른 수정 처리
 		if (requestDto.getType() == ExamQuestionType.MULTIPLE_CHOICE) {
@@ -142,6 +149,8 @@ public class ExamQuestionService {
 		exam.getQuestions().stream()
 				.filter(q -> q.getExamNumber() > deletedQuestionNumber)
 				.forEach(q -> q.updateExamNumber(q.getExamNumber() - 1));
+
+		eventPublisher.publishEvent(ExamChangedEvent.of(examId));
 	}
 
 }
@@ -20,11 +20,11 @@ import com.example.epari.exam.repository.ExamRepository;
 import com.example.epari.exam.repository.ExamResultRepository;
 import com.example.epari.exam.util.ScoreCalculator;
 import com.example.epari.global.common.enums.ExamStatus;
+import com.example.epari.global.common.util.RosterMerger;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 import com.example.epari.global.exception.exam.ExamResultNotFoundException;
 import com.example.epari.global.validator.CourseAccessValidator;
-import com.example.epari.global.validator.ExamSubmissionValidator;
 import com.example.epari.user.domain.Instructor;
 import com.example.epari.user.domain.Student;
 
@@ -50,7 +50,7 @@ public class ExamResultService {
 
 	private final CourseStudentRepository courseStudentRepository;
 
-	private final ExamSubmissionValidator examSubmissionValidator;
+	private final RosterMerger rosterMerger;
 
 	// 시험 결과 생성 응답
 	private ExamResultResponseDto createExamResultResponse(List<ExamResult> examResults) {
@@ -104,31 +104,24 @@ public class ExamResultService {
 		// 1. 해당 코스의 모든 수강생 목록 조회
 		List<CourseStudent> courseStudents = courseStudentRepository.findAllCourseStudentsByCourseId(courseId);
 
-		// 2. 시험 결과 조회
-		List<ExamResult> submittedResults = examResultRepository.findByExamId(examId);
-
-		// 3. 학생별 결과 매핑
-		return courseStudents.stream().map(courseStudent -> {
-			// 학생의 시험 결과 찾기
-			ExamResult result = submittedResults.stream()
-					.filter(r -> r.getStudent().getEmail().equals(courseStudent.getStudent().getEmail()))
-					.findFirst()
-					.orElse(null);
-
-			// 결과가 없는 경우 (미제출) 기본값으로 DTO 생성
-			if (result == null) {
-				return ExamResultSummaryDto.builder()
+		// 2. 시험 결과 조회 (학생, 답안을 함께 조회)
+		List<ExamResult> submittedResults = examResultRepository.findWithStudentAndScoresByExamId(examId);
+
+		// 3. 학생 ID 기준으로 결과 병합 (결과가 없는 경우 미제출)
+		return rosterMerger.merge(
+				courseStudents,
+				courseStudent -> courseStudent.getStudent().getId(),
+				submittedResults,
+				result -> result.getStudent().getId(),
+				ExamResultSummaryDto::from,
+				courseStudent -> ExamResultSummaryDto.builder()
 						.studentName(courseStudent.getStudent().getName())
 						.studentEmail(courseStudent.getStudent().getEmail())
 						.status(ExamStatus.NOT_SUBMITTED)
 						.totalScore(0)
 						.submittedAt(null)  // 미제출이므로 null
-						.build();
-			}
-
-			// 결과가 있는 경우 정상적으로 DTO 생성
-			return ExamResultSummaryDto.from(result);
-		}).collect(Collectors.toList());
+						.build()
+		);
 	}
 
 	// 시험 결과 상세 조회
@@ -180,11 +173,15 @@ public class ExamResultService {
 				.build();
 	}
 
-	// 진행중인 시험 결과 조회
+	// 진행중인 시험 결과 조회 (시험 정보와 함께 한 번에 조회)
 	ExamResult getExamResultInProgress(Long examId, Long studentId) {
-		examSubmissionValidator.validateSubmittable(examId, studentId);
-		return examResultRepository.findByExamIdAndStudentId(examId, studentId)
+		ExamResult examResult = examResultRepository.findWithExamByExamIdAndStudentId(examId, studentId)
 				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_RESULT_NOT_FOUND));
+
+		if (examResult.getStatus() != ExamStatus.IN_PROGRESS) {
+			throw new BusinessBaseException(ErrorCode.EXAM_ALREADY_SUBMITTED);
+		}
+		return examResult;
 	}
 
 }
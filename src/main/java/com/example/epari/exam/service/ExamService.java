@@ -3,8 +3,11 @@ package com.example.epari.exam.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,7 +15,8 @@ import com.example.epari.course.domain.Course;
 import com.example.epari.course.repository.CourseRepository;
 import com.example.epari.exam.domain.Exam;
 import com.example.epari.exam.domain.ExamResult;
-import com.example.epari.exam.dto.common.ExamStatistics;
+import com.example.epari.exam.dto.common.ExamResultAggregate;
+import com.example.epari.exam.dto.common.ExamSnapshot;
 import com.example.epari.exam.dto.common.ExamSubmissionStatusDto;
 import com.example.epari.exam.dto.request.ExamRequestDto;
 import com.example.epari.exam.dto.response.ExamListResponseDto;
@@ -22,6 +26,9 @@ import com.example.epari.exam.repository.ExamRepository;
 import com.example.epari.exam.repository.ExamResultRepository;
 import com.example.epari.exam.util.ScoreCalculator;
 import com.example.epari.global.common.enums.ExamStatus;
+import com.example.epari.global.event.DashboardChangedEvent;
+import com.example.epari.global.event.ExamChangedEvent;
+import com.example.epari.global.event.ExamScheduleChangedEvent;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 import com.example.epari.global.validator.CourseAccessValidator;
@@ -55,10 +62,16 @@ public class ExamService {
 
 	private final ScoreCalculator scoreCalculator;
 
+	private final ExamStatisticsService examStatisticsService;
+
 	private final ExamStatusService examStatusService;
 
 	private final ExamTimeValidator examTimeValidator;
 
+	private final ExamSnapshotCache examSnapshotCache;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	// 시험 생성
 	@Transactional
 	public Long createExam(Long courseId, ExamRequestDto requestDto, String instructorEmail) {
@@ -78,51 +91,73 @@ public class ExamService {
 				.course(course)
 				.build();
 
-		return examRepository.save(exam).getId();
+		Exam savedExam = examRepository.save(exam);
+		examStatisticsService.initialize(savedExam);
+		eventPublisher.publishEvent(ExamScheduleChangedEvent.from(savedExam));
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
+		return savedExam.getId();
 	}
 
 	// 시험 목록 조회
+	// 시험별 집계(강사) 또는 본인 결과(학생)를 시험 수와 관계없이 한 번의 쿼리로 조회
 	public ExamListResponseDto getExams(Long courseId, ExamStatus status, String email, String role) {
 		Course course = courseRepository.findById(courseId)
 				.orElseThrow(() -> new BusinessBaseException(ErrorCode.COURSE_NOT_FOUND));
 
-		List<Exam> exams;
-		if (role.contains("INSTRUCTOR")) {
-			Instructor instructor = courseAccessValidator.validateInstructorEmail(email);
-			exams = examRepository.findByInstructorId(instructor.getId());
-		} else {
+		if (!role.contains("INSTRUCTOR")) {
 			Student student = courseAccessValidator.validateStudentEmail(email);
-			exams = examRepository.findByStudentId(student.getId());
+			return getStudentExams(student.getId(), status);
 		}
 
-		// 현재 시점 기준으로 시험 분류
+		Instructor instructor = courseAccessValidator.validateInstructorEmail(email);
+		List<Exam> exams = filterByStatus(examRepository.findByInstructorId(instructor.getId()), status);
+		Map<Long, ExamResultAggregate> aggregates = exams.isEmpty() ? Map.of() : examResultRepository
+				.findAggregatesByExamIdIn(toExamIds(exams), List.of(ExamStatus.SUBMITTED, ExamStatus.COMPLETED))
+				.stream()
+				.collect(Collectors.toMap(ExamResultAggregate::getExamId, Function.identity()));
+
+		return categorizeExams(exams, exam -> ExamSummaryDto.forInstructor(exam,
+				scoreCalculator.calculateExamStatistics(aggregates.get(exam.getId()))));
+	}
+
+	// 학생 시험 목록 조회 (수강 중인 모든 강의의 시험과 본인 결과)
+	public ExamListResponseDto getStudentExams(Long studentId, ExamStatus status) {
+		List<Exam> exams = filterByStatus(examRepository.findByStudentId(studentId), status);
+		Map<Long, ExamResult> resultsByExamId = exams.isEmpty() ? Map.of() : examResultRepository
+				.findByStudentIdAndExamIdIn(studentId, toExamIds(exams))
+				.stream()
+				.collect(Collectors.toMap(result -> result.getExam().getId(), Function.identity()));
+
+		return categorizeExams(exams, exam -> {
+			ExamResult result = resultsByExamId.get(exam.getId());
+			return result != null
+					? ExamSummaryDto.forStudent(exam, result)
+					: ExamSummaryDto.forNewExam(exam);
+		});
+	}
+
+	// 현재 시점 기준 상태 필터링
+	private List<Exam> filterByStatus(List<Exam> exams, ExamStatus status) {
+		LocalDateTime now = LocalDateTime.now();
+		return exams.stream()
+				.filter(exam -> status == null || examStatusValidator.matchesStatus(exam, status, now))
+				.collect(Collectors.toList());
+	}
+
+	private List<Long> toExamIds(List<Exam> exams) {
+		return exams.stream().map(Exam::getId).collect(Collectors.toList());
+	}
+
+	// 현재 시점 기준으로 시험 분류
+	private ExamListResponseDto categorizeExams(List<Exam> exams, Function<Exam, ExamSummaryDto> summaryMapper) {
 		LocalDateTime now = LocalDateTime.now();
 		List<ExamSummaryDto> scheduledExams = new ArrayList<>();
 		List<ExamSummaryDto> inProgressExams = new ArrayList<>();
 		List<ExamSummaryDto> completedExams = new ArrayList<>();
 
 		for (Exam exam : exams) {
-			if (status != null && !examStatusValidator.matchesStatus(exam, status, now)) {
-				continue;
-			}
-
-			if (role.contains("INSTRUCTOR")) {
-				List<ExamResult> results = examResultRepository.findByExamId(exam.getId());
-				ExamStatistics statistics = scoreCalculator.calculateExamStatistics(results, exam.getCourse().getId());
-				ExamSummaryDto summaryDto = ExamSummaryDto.forInstructor(exam, statistics);
-				examStatusService.categorizeExam(exam, summaryDto, now, scheduledExams, inProgressExams,
-						completedExams);
-			} else {
-				Student student = courseAccessValidator.validateStudentEmail(email);
-				Optional<ExamResult> resultOptional = examResultRepository.findByExamIdAndStudentId(exam.getId(),
-						student.getId());
-				ExamSummaryDto summaryDto = resultOptional.isPresent()
-						? ExamSummaryDto.forStudent(exam, resultOptional.get())
-						: ExamSummaryDto.forNewExam(exam);
-
-				examStatusService.categorizeExam(exam, summaryDto, now, scheduledExams, inProgressExams,
-						completedExams);
-			}
+			examStatusService.categorizeExam(exam, summaryMapper.apply(exam), now, scheduledExams, inProgressExams,
+					completedExams);
 		}
 
 		return ExamListResponseDto.builder()
@@ -149,6 +184,7 @@ public class ExamService {
 				.build();
 
 		examResultRepository.save(examResult);
+		eventPublisher.publishEvent(DashboardChangedEvent.student(student.getId()));
 		return ExamStatusService.createExamSubmissionStatusDto(exam, examResult);
 	}
 
@@ -158,27 +194,25 @@ public class ExamService {
 		if (role.contains("ROLE_INSTRUCTOR")) {
 			Instructor instructor = courseAccessValidator.validateInstructorEmail(email);
 			courseAccessValidator.validateInstructorAccess(courseId, instructor.getId());
-		} else {
-			Student student = courseAccessValidator.validateStudentEmail(email);
-			courseAccessValidator.validateStudentAccess(courseId, student.getId());
-			examBaseValidator.validateExamAccess(examId, student.getId());
-		}
 
-		// 시험 조회 (with fetch join questions)
-		Exam exam = examRepository.findByIdWithQuestionsAndCourse(examId)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+			// 시험 조회 (with fetch join questions)
+			Exam exam = examRepository.findByIdWithQuestionsAndCourse(examId)
+					.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
 
-		examBaseValidator.validateExamCourse(courseId, examId);
-
-		// 권한별 응답 생성
-		if (role.contains("ROLE_INSTRUCTOR")) {
+			examBaseValidator.validateExamCourse(courseId, examId);
 			return ExamResponseDto.fromExamForInstructor(exam);
-		} else {
-			Student student = courseAccessValidator.validateStudentEmail(email);
-			ExamResult result = examResultRepository.findByExamIdAndStudentId(examId, student.getId())
-					.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_STARTED));
-			return ExamResponseDto.fromExamForStudent(exam, result);
 		}
+
+		Student student = courseAccessValidator.validateStudentEmail(email);
+		courseAccessValidator.validateStudentAccess(courseId, student.getId());
+		examBaseValidator.validateExamAccess(examId, student.getId());
+		examBaseValidator.validateExamCourse(courseId, examId);
+
+		// 학생 응답은 시험 스냅샷으로 생성 (응시 중 반복 조회 시 시험/문제 조회 생략)
+		ExamSnapshot snapshot = examSnapshotCache.getSnapshot(examId);
+		ExamResult result = examResultRepository.findByExamIdAndStudentId(examId, student.getId())
+				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_STARTED));
+		return ExamResponseDto.fromSnapshotForStudent(snapshot, result);
 	}
 
 	// 시험 수정
@@ -197,6 +231,10 @@ public class ExamService {
 				requestDto.getTotalScore(),
 				requestDto.getDescription()
 		);
+		examStatisticsService.updateFullScore(exam);
+		eventPublisher.publishEvent(ExamScheduleChangedEvent.from(exam));
+		eventPublisher.publishEvent(ExamChangedEvent.of(examId));
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 
 		return ExamResponseDto.fromExamForInstructor(exam);
 	}
@@ -209,7 +247,11 @@ public class ExamService {
 		Exam exam = examBaseValidator.validateExamExists(examId);
 		examBaseValidator.validateExamCourse(courseId, examId);
 
+		examStatisticsService.delete(examId);
 		examRepository.delete(exam);
+		eventPublisher.publishEvent(ExamScheduleChangedEvent.deleted(examId));
+		eventPublisher.publishEvent(ExamChangedEvent.of(examId));
+		eventPublisher.publishEvent(DashboardChangedEvent.course(courseId));
 	}
 
 }
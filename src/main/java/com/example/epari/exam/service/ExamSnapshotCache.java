@@ -0,0 +1,211 @@
+package com.example.epari.exam.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.epari.exam.domain.Exam;
+import com.example.epari.exam.domain.ExamQuestion;
+import com.example.epari.exam.dto.common.ExamSnapshot;
+import com.example.epari.exam.repository.ExamQuestionRepository;
+import com.example.epari.exam.repository.ExamRepository;
+import com.example.epari.global.event.ExamChangedEvent;
+import com.example.epari.global.exception.BusinessBaseException;
+import com.example.epari.global.exception.ErrorCode;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시험 스냅샷 캐시
+ * 시험 일정/상태/학생용 문제 목록을 서버 메모리에 보관하여 응시 중 시험/문제 조회를 생략
+ * 시험 시작 시 미리 적재하고, 시험/문제 변경 시 커밋 후 Pub/Sub으로 모든 서버의 스냅샷을 무효화
+ * 일정 검증에는 시험의 수정 시각을 함께 확인한 스냅샷을 사용하여, 무효화 메시지가 유실되어도 변경 전 일정으로 검증하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExamSnapshotCache implements MessageListener {
+
+	private static final String CHANNEL = "epari::exam-snapshot-invalidation";
+
+	// 무효화 메시지 유실에 대비한 최대 보관 시간
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(30);
+
+	// 최대 보관 시험 수 (초과 시 전체 비움)
+	private static final int LOCAL_MAX_EXAMS = 1_000;
+
+	private final ExamRepository examRepository;
+
+	private final ExamQuestionRepository examQuestionRepository;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final Map<Long, CachedExam> localCache = new ConcurrentHashMap<>();
+
+	// 시험별 진행 중인 적재 (동시에 조회한 요청은 하나의 적재 결과를 공유)
+	private final Map<Long, CompletableFuture<CachedExam>> inFlightLoads = new ConcurrentHashMap<>();
+
+	// 무효화마다 증가하는 캐시 버전 (적재 중 무효화된 스냅샷이 저장되지 않도록 비교)
+	private final AtomicLong version = new AtomicLong();
+
+	@PostConstruct
+	public void registerListener() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 시험 스냅샷 조회 (학생 공개 정보)
+	public ExamSnapshot getSnapshot(Long examId) {
+		return getCachedExam(examId).snapshot;
+	}
+
+	// 시험 수정 시각이 DB와 같은 스냅샷 조회 (다르면 다시 적재)
+	public ExamSnapshot getVerifiedSnapshot(Long examId) {
+		LocalDateTime updatedAt = examRepository.findUpdatedAtById(examId)
+				.orElseThrow(() -> {
+					evictLocal(examId);
+					return new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND);
+				});
+
+		ExamSnapshot snapshot = getCachedExam(examId).snapshot;
+		if (updatedAt.equals(snapshot.getUpdatedAt())) {
+			return snapshot;
+		}
+
+		log.debug("Exam snapshot outdated, reloading - examId: {}", examId);
+		evictLocal(examId);
+		return getCachedExam(examId).snapshot;
+	}
+
+	// 시험 변경 커밋 후 스냅샷 무효화
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleExamChanged(ExamChangedEvent event) {
+		Long examId = event.getExamId();
+		evictLocal(examId);
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(examId));
+		} catch (DataAccessException e) {
+			// 전파에 실패해도 다른 서버의 스냅샷은 최대 보관 시간 경과 후 만료됨
+			log.warn("Failed to publish exam snapshot invalidation - examId: {}", examId, e);
+		}
+
+		if (event.isPreload()) {
+			try {
+				getCachedExam(examId);
+			} catch (RuntimeException e) {
+				log.warn("Failed to preload exam snapshot - examId: {}", examId, e);
+			}
+		}
+	}
+
+	// 다른 서버의 무효화 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			evictLocal(Long.valueOf(body));
+		} catch (NumberFormatException e) {
+			log.warn("Invalid exam snapshot invalidation message: {}", body);
+		}
+	}
+
+	private CachedExam getCachedExam(Long examId) {
+		CachedExam cached = localCache.get(examId);
+		if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+			return cached;
+		}
+
+		CompletableFuture<CachedExam> future = new CompletableFuture<>();
+		CompletableFuture<CachedExam> inFlight = inFlightLoads.putIfAbsent(examId, future);
+		if (inFlight != null) {
+			return await(inFlight);
+		}
+
+		try {
+			CachedExam loaded = load(examId);
+			future.complete(loaded);
+			return loaded;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightLoads.remove(examId, future);
+		}
+	}
+
+	// 시험(강의, 담당 강사 포함)과 문제(객관식 선택지 포함)를 조회하여 스냅샷 생성
+	private CachedExam load(Long examId) {
+		long loadVersion = version.get();
+
+		Exam exam = examRepository.findWithCourseAndInstructorById(examId)
+				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+		List<ExamQuestion> questions = new ArrayList<>(
+				examQuestionRepository.findMultipleChoiceQuestionsWithChoices(examId));
+		questions.addAll(examQuestionRepository.findSubjectiveQuestions(examId));
+		questions.sort(Comparator.comparingInt(ExamQuestion::getExamNumber));
+
+		CachedExam loaded = new CachedExam(ExamSnapshot.of(exam, questions, loadVersion),
+				System.currentTimeMillis() + LOCAL_TTL.toMillis());
+
+		if (localCache.size() >= LOCAL_MAX_EXAMS) {
+			localCache.clear();
+		}
+		// 적재 중 무효화되었으면 변경 전 스냅샷이므로 저장하지 않음
+		localCache.compute(examId, (id, existing) -> version.get() == loadVersion ? loaded : existing);
+		return loaded;
+	}
+
+	// 버전을 먼저 올려 진행 중인 적재 결과가 저장되지 않도록 한 뒤 제거
+	private void evictLocal(Long examId) {
+		version.incrementAndGet();
+		localCache.remove(examId);
+	}
+
+	private CachedExam await(CompletableFuture<CachedExam> inFlight) {
+		try {
+			return inFlight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/*
+	 * 로컬 캐시 항목
+	 */
+	private static class CachedExam {
+
+		private final ExamSnapshot snapshot;
+
+		private final long expiresAt;
+
+		CachedExam(ExamSnapshot snapshot, long expiresAt) {
+			this.snapshot = snapshot;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
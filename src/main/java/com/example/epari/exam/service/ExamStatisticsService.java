@@ -0,0 +1,149 @@
+package com.example.epari.exam.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.epari.exam.domain.Exam;
+import com.example.epari.exam.domain.ExamScoreStatistics;
+import com.example.epari.exam.repository.ExamRepository;
+import com.example.epari.exam.repository.ExamResultRepository;
+import com.example.epari.exam.repository.ExamScoreStatisticsRepository;
+import com.example.epari.global.common.enums.ExamStatus;
+import com.example.epari.global.exception.BusinessBaseException;
+import com.example.epari.global.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시험별 점수 통계 서비스
+ * 채점/제출 시점에 통계를 점진적으로 갱신하고, 조회 시에는 저장된 통계만 읽음
+ * 기존 시험의 통계는 배포 시 일괄 생성하며, 누락된 통계는 조회 시 별도 트랜잭션에서 생성
+ */
+@Slf4j
+@Service
+@Transactional
+public class ExamStatisticsService {
+
+	// 제출로 간주하는 시험 결과 상태
+	private static final List<ExamStatus> SUBMITTED_STATUSES = List.of(ExamStatus.SUBMITTED, ExamStatus.GRADED,
+			ExamStatus.COMPLETED);
+
+	private final ExamRepository examRepository;
+
+	private final ExamResultRepository examResultRepository;
+
+	private final ExamScoreStatisticsRepository examScoreStatisticsRepository;
+
+	// 누락된 통계 생성용 (호출한 트랜잭션과 분리하여, 생성 실패나 재계산이 호출한 쪽 작업에 영향을 주지 않도록 함)
+	private final TransactionTemplate requiresNewTransactionTemplate;
+
+	public ExamStatisticsService(ExamRepository examRepository, ExamResultRepository examResultRepository,
+			ExamScoreStatisticsRepository examScoreStatisticsRepository,
+			PlatformTransactionManager transactionManager) {
+		this.examRepository = examRepository;
+		this.examResultRepository = examResultRepository;
+		this.examScoreStatisticsRepository = examScoreStatisticsRepository;
+		this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	// 시험 생성 시 빈 통계 생성
+	public void initialize(Exam exam) {
+		examScoreStatisticsRepository.save(ExamScoreStatistics.builder()
+				.exam(exam)
+				.fullScore(exam.getTotalScore())
+				.build());
+	}
+
+	// 시험 정보 수정 시 분포 구간 기준 만점 반영
+	public void updateFullScore(Exam exam) {
+		examScoreStatisticsRepository.findByExamIdForUpdate(exam.getId())
+				.ifPresent(statistics -> statistics.updateFullScore(exam.getTotalScore()));
+	}
+
+	// 시험 삭제 시 통계 삭제
+	public void delete(Long examId) {
+		examScoreStatisticsRepository.deleteByExamId(examId);
+	}
+
+	// 채점된 점수 반영 (행 잠금 후 한 번에 반영)
+	// 통계가 없으면 반영하지 않음 (이후 조회 시 커밋된 결과로 재계산하여 생성)
+	public void recordGradedScores(Long examId, Collection<Integer> scores) {
+		if (scores.isEmpty()) {
+			return;
+		}
+
+		examScoreStatisticsRepository.findByExamIdForUpdate(examId)
+				.ifPresentOrElse(statistics -> scores.forEach(statistics::recordGradedScore),
+						() -> log.warn("Exam statistics not found, skipped graded scores - examId: {}", examId));
+	}
+
+	// 제출 수 반영
+	// 제출 트랜잭션에서 재계산하지 않도록, 통계가 없으면 반영하지 않음
+	public void recordSubmissions(Long examId, int count) {
+		if (count <= 0) {
+			return;
+		}
+
+		int updated = examScoreStatisticsRepository.increaseSubmittedCount(examId, count);
+		if (updated == 0) {
+			log.warn("Exam statistics not found, skipped submissions - examId: {}", examId);
+		}
+	}
+
+	// 시험 통계 조회 (통계가 없으면 별도 트랜잭션에서 생성)
+	public ExamScoreStatistics getStatistics(Long examId) {
+		return examScoreStatisticsRepository.findByExamId(examId)
+				.orElseGet(() -> createIfAbsent(examId));
+	}
+
+	// 시험 결과로부터 통계 재계산 (통계가 없으면 별도 트랜잭션에서 생성)
+	public void rebuild(Long examId) {
+		examScoreStatisticsRepository.findByExamIdForUpdate(examId)
+				.ifPresentOrElse(statistics -> recount(examId, statistics), () -> createIfAbsent(examId));
+	}
+
+	// 누락된 통계를 커밋된 시험 결과로 계산하여 생성
+	// 동시에 생성되어 유일 제약 조건에 걸리면 새 트랜잭션에서 다시 조회 (기존 트랜잭션의 스냅샷에는 보이지 않을 수 있음)
+	private ExamScoreStatistics createIfAbsent(Long examId) {
+		try {
+			return requiresNewTransactionTemplate.execute(status -> examScoreStatisticsRepository.findByExamId(examId)
+					.orElseGet(() -> {
+						Exam exam = examRepository.findById(examId)
+								.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+						ExamScoreStatistics statistics = ExamScoreStatistics.builder()
+								.exam(exam)
+								.fullScore(exam.getTotalScore())
+								.build();
+						recount(examId, statistics);
+						return examScoreStatisticsRepository.saveAndFlush(statistics);
+					}));
+		} catch (DataIntegrityViolationException e) {
+			log.debug("Exam statistics created concurrently - examId: {}", examId);
+			return requiresNewTransactionTemplate.execute(status -> examScoreStatisticsRepository.findByExamId(examId)
+					.orElseThrow(() -> e));
+		}
+	}
+
+	private void recount(Long examId, ExamScoreStatistics statistics) {
+		Exam exam = examRepository.findById(examId)
+				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+
+		statistics.reset();
+		statistics.updateFullScore(exam.getTotalScore());
+		examResultRepository.findTotalScoresByExamIdAndStatus(examId, ExamStatus.GRADED)
+				.forEach(statistics::recordGradedScore);
+		statistics.recordSubmissions(
+				(int)examResultRepository.countByExamIdAndStatusIn(examId, SUBMITTED_STATUSES));
+
+		log.debug("Exam statistics recounted - examId: {}, graded: {}", examId, statistics.getGradedCount());
+	}
+
+}
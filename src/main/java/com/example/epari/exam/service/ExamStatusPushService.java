@@ -0,0 +1,146 @@
+package com.example.epari.exam.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.epari.exam.domain.Exam;
+import com.example.epari.exam.repository.ExamRepository;
+import com.example.epari.global.common.enums.ExamStatus;
+import com.example.epari.global.event.ExamStatusPushEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시험 상태 실시간 전송 서비스
+ * 강의별 SSE 구독자에게 시험 시작/남은 시간/강제 제출/채점 완료 이벤트를 전송
+ * 이벤트는 Redis 채널로 전파되므로 어느 서버에서 상태가 바뀌어도 모든 서버의 구독자가 수신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamStatusPushService implements MessageListener {
+
+	private static final String CHANNEL = "epari::exam-status";
+
+	// SSE 연결 유지 시간 (만료 시 클라이언트가 재연결)
+	private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+
+	private final ExamRepository examRepository;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final ObjectMapper objectMapper;
+
+	// 강의 ID별 SSE 구독자 (이 서버에 연결된 구독자만 보관)
+	private final Map<Long, Set<SseEmitter>> emittersByCourse = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void registerListener() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 강의의 시험 상태 구독
+	public SseEmitter subscribe(Long courseId) {
+		SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+		Set<SseEmitter> emitters = emittersByCourse.computeIfAbsent(courseId, id -> new CopyOnWriteArraySet<>());
+		emitters.add(emitter);
+
+		emitter.onCompletion(() -> removeEmitter(courseId, emitter));
+		emitter.onTimeout(() -> removeEmitter(courseId, emitter));
+		emitter.onError(e -> removeEmitter(courseId, emitter));
+
+		// 연결 직후 이벤트를 보내 프록시 버퍼링으로 인한 연결 지연을 방지
+		send(courseId, emitter, SseEmitter.event().name("CONNECTED").data(courseId));
+		return emitter;
+	}
+
+	// 시험 상태 변경 커밋 후 모든 서버로 전파
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleExamStatusPush(ExamStatusPushEvent event) {
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+		} catch (Exception e) {
+			// 전파 실패 시에도 이 서버의 구독자에게는 전송
+			log.warn("Failed to publish exam status event - examId: {}", event.getExamId(), e);
+			broadcast(event);
+		}
+	}
+
+	// Redis 채널 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			broadcast(objectMapper.readValue(message.getBody(), ExamStatusPushEvent.class));
+		} catch (IOException e) {
+			log.warn("Invalid exam status message", e);
+		}
+	}
+
+	// 진행중인 시험의 남은 시간 전송 (연결 유지 신호 역할도 함께 수행)
+	@Scheduled(fixedDelay = 30000, initialDelay = 30000)
+	public void pushRemainingTime() {
+		if (emittersByCourse.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		List<Exam> exams = examRepository.findByStatusIn(List.of(ExamStatus.IN_PROGRESS));
+		for (Exam exam : exams) {
+			if (!emittersByCourse.containsKey(exam.getCourse().getId())) {
+				continue;
+			}
+			long remainingSeconds = Math.max(Duration.between(now, exam.getEndDateTime()).getSeconds(), 0);
+			broadcast(ExamStatusPushEvent.remainingTime(exam, remainingSeconds));
+		}
+	}
+
+	// 이 서버에 연결된 강의 구독자에게 전송
+	private void broadcast(ExamStatusPushEvent event) {
+		Set<SseEmitter> emitters = emittersByCourse.get(event.getCourseId());
+		if (emitters == null) {
+			return;
+		}
+
+		for (SseEmitter emitter : emitters) {
+			send(event.getCourseId(), emitter, SseEmitter.event().name(event.getType().name()).data(event));
+		}
+	}
+
+	private void send(Long courseId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			// 연결이 끊긴 구독자 정리
+			removeEmitter(courseId, emitter);
+		}
+	}
+
+	private void removeEmitter(Long courseId, SseEmitter emitter) {
+		emittersByCourse.computeIfPresent(courseId, (id, emitters) -> {
+			emitters.remove(emitter);
+			return emitters.isEmpty() ? null : emitters;
+		});
+	}
+
+}
@@ -4,17 +4,23 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.epari.exam.domain.Exam;
 import com.example.epari.exam.domain.ExamResult;
+import com.example.epari.exam.dto.common.ExamEndReport;
 import com.example.epari.exam.dto.common.ExamSubmissionStatusDto;
 import com.example.epari.exam.dto.response.ExamSummaryDto;
 import com.example.epari.exam.repository.ExamRepository;
 import com.example.epari.exam.repository.ExamResultRepository;
+import com.example.epari.exam.service.ExamGradingService.GradingSummary;
 import com.example.epari.global.common.enums.ExamStatus;
+import com.example.epari.global.event.DashboardChangedEvent;
+import com.example.epari.global.event.ExamChangedEvent;
+import com.example.epari.global.event.ExamStatusPushEvent;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 import com.example.epari.global.validator.CourseAccessValidator;
@@ -43,14 +49,17 @@ public class ExamStatusService {
 
 	private final ExamSubmissionService examSubmissionService;
 
+	private final ExamStatisticsService examStatisticsService;
+
 	private final ExamQuestionValidator examQuestionValidator;
 
 	private final ExamTimeValidator examTimeValidator;
 
 	private final CourseAccessValidator courseAccessValidator;
 
+	private final ApplicationEventPublisher eventPublisher;
+
 	// 시험 분류
-	// TODO: 시험 상태 웹소켓을 통한 실시간 변경 필요
 	public void categorizeExam(Exam exam, ExamSummaryDto summaryDto, LocalDateTime now,
 			List<ExamSummaryDto> scheduledExams,
 			List<ExamSummaryDto> inProgressExams,
@@ -114,60 +123,99 @@ public class ExamStatusService {
 		examTimeValidator.validateExamTimeRemaining(examResult.getExam());
 	}
 
-	// 시험 종료 처리
+	// 시험 시작 처리
+	// DB의 시작 시각이 지난 예정 상태인 경우에만 진행중으로 변경되므로,
+	// 여러 노드에서 동시에 호출되거나 일정 변경 전에 예약된 작업이 실행되어도 한 번만 올바른 시각에 전이
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void processExamEnd(Exam exam) {
-		// 시험 상태를 먼저 IN_PROGRESS로 변경
-		if (exam.getStatus() == ExamStatus.SCHEDULED) {
-			exam.updateStatus(ExamStatus.IN_PROGRESS);
-			examRepository.save(exam);
+	public boolean processExamStart(Long examId) {
+		Exam exam = examRepository.findById(examId).orElse(null);
+		LocalDateTime now = LocalDateTime.now();
+		if (exam == null || exam.getExamDateTime().isAfter(now)) {
+			return false;
 		}
 
-		// 1. 미제출자 강제 제출 처리
-		List<ExamResult> inProgressResults = examResultRepository.findByExamIdAndStatus(exam.getId(),
-				ExamStatus.IN_PROGRESS);
-
-		for (ExamResult result : inProgressResults) {
-			try {
-				result.submit(true);
-				examResultRepository.save(result);
-				log.info("시험 자동 제출 처리 완료. examId={}, studentId={}", exam.getId(), result.getStudent().getId());
-			} catch (Exception e) {
-				log.error("시험 자동 제출 실패. examId={}, studentId={}", exam.getId(), result.getStudent().getId(), e);
-				// 개별 실패는 전체 트랜잭션을 롤백하지 않음
-			}
+		int updated = examRepository.updateStatusIfScheduleMatches(examId, List.of(ExamStatus.SCHEDULED),
+				ExamStatus.IN_PROGRESS, exam.getExamDateTime(), exam.getDuration(), now);
+		if (updated == 0) {
+			return false;
 		}
 
-		// 2. 시험 상태를 채점중으로 변경
-		exam.updateStatus(ExamStatus.GRADING);
-		examRepository.save(exam);
+		examRepository.findById(examId).ifPresent(started -> {
+			eventPublisher.publishEvent(ExamStatusPushEvent.of(ExamStatusPushEvent.Type.EXAM_STARTED, started, null));
+			eventPublisher.publishEvent(DashboardChangedEvent.course(started.getCourse().getId()));
+		});
+		// 응시 요청이 몰리기 전에 시험 스냅샷 적재
+		eventPublisher.publishEvent(ExamChangedEvent.started(examId));
+
+		log.info("시험 시작 처리 완료. examId={}", examId);
+		return true;
+	}
+
+	// 시험 종료 처리
+	// DB의 종료 시각이 지난 예정/진행중 상태를 채점중으로 선점한 호출만 시험 단위로 한 번 종료 처리를 수행
+	// 일정 변경 전에 예약된 작업이 실행되어도 종료 시각 전이면 처리하지 않음
+	// 처리 중 오류로 롤백되면 상태도 함께 복구되어 재시도 시 다시 처리됨
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public ExamEndReport processExamEnd(Long examId) {
+		long startedAt = System.currentTimeMillis();
+
+		Exam scheduled = examRepository.findById(examId).orElse(null);
+		LocalDateTime now = LocalDateTime.now();
+		if (scheduled == null || scheduled.getEndDateTime().isAfter(now)) {
+			log.debug("종료 시각이 지나지 않은 시험. examId={}", examId);
+			return ExamEndReport.skipped(examId);
+		}
 
-		try {
-			// 3. 채점 프로세스 시작
-			startGradingProcess(exam);
-		} catch (Exception e) {
-			log.error("채점 실패. examId={}", exam.getId(), e);
-			// 채점 실패해도 시험 종료 처리는 커밋
+		int claimed = examRepository.updateStatusIfScheduleMatches(examId,
+				List.of(ExamStatus.SCHEDULED, ExamStatus.IN_PROGRESS), ExamStatus.GRADING,
+				scheduled.getExamDateTime(), scheduled.getDuration(), now);
+		if (claimed == 0) {
+			log.debug("이미 종료 처리된 시험. examId={}", examId);
+			return ExamEndReport.skipped(examId);
 		}
 
-		log.info("시험 종료 처리 완료. examId={}", exam.getId());
+		// 1. Redis에 버퍼된 임시 저장 답안 반영
+		examSubmissionService.flushBufferedAnswers(examId);
+
+		// 2. 미제출자 강제 제출 처리 (시험 단위 일괄 처리)
+		examResultRepository.markAnswersSubmittedByExamIdAndStatus(examId, ExamStatus.IN_PROGRESS);
+		int forceSubmittedCount = examResultRepository.updateStatusByExamIdAndStatus(examId,
+				ExamStatus.IN_PROGRESS, ExamStatus.SUBMITTED, LocalDateTime.now());
+		examStatisticsService.recordSubmissions(examId, forceSubmittedCount);
+
+		Exam exam = examRepository.findById(examId)
+				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+
+		eventPublisher.publishEvent(
+				ExamStatusPushEvent.of(ExamStatusPushEvent.Type.FORCE_SUBMITTED, exam, forceSubmittedCount));
+
+		// 3. 채점 프로세스 시작 (채점 중 영속성 컨텍스트가 비워지므로 완료 처리 시 시험을 다시 조회)
+		GradingSummary gradingSummary = gradingService.gradeExam(examId, exam.getCourse().getId());
+		exam = completeGrading(examId);
+		eventPublisher.publishEvent(ExamChangedEvent.of(examId));
+		eventPublisher.publishEvent(DashboardChangedEvent.course(exam.getCourse().getId()));
+		eventPublisher.publishEvent(ExamStatusPushEvent.of(ExamStatusPushEvent.Type.EXAM_GRADED, exam,
+				gradingSummary.getGradedCount()));
+
+		ExamEndReport report = ExamEndReport.builder()
+				.examId(examId)
+				.processed(true)
+				.forceSubmittedCount(forceSubmittedCount)
+				.gradedCount(gradingSummary.getGradedCount())
+				.notSubmittedCount(gradingSummary.getNotSubmittedCount())
+				.elapsedMillis(System.currentTimeMillis() - startedAt)
+				.build();
+
+		log.info("시험 종료 처리 완료. examId={}, forceSubmitted={}, graded={}, notSubmitted={}, elapsedMs={}",
+				examId, report.getForceSubmittedCount(), report.getGradedCount(), report.getNotSubmittedCount(),
+				report.getElapsedMillis());
+		return report;
 	}
 
-	// 채점 프로세스 시작
-	private void startGradingProcess(Exam exam) {
-		List<ExamResult> submittedResults = examResultRepository.findByExamIdAndStatus(exam.getId(),
-				ExamStatus.SUBMITTED);
-
-		// GradingService의 채점 로직 활용
-		for (ExamResult result : submittedResults) {
-			try {
-				gradingService.processGrading(result);
-				log.info("채점 완료. examId={}, studentId={}, score={}", exam.getId(), result.getStudent().getId(),
-						result.getEarnedScore());
-			} catch (Exception e) {
-				log.error("채점 실패. examId={}, studentId={}", exam.getId(), result.getStudent().getId(), e);
-			}
-		}
+	// 채점 완료 처리
+	private Exam completeGrading(Long examId) {
+		Exam exam = examRepository.findById(examId)
+				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
 
 		// 채점 완료 후 시험 상태 업데이트
 		exam.updateStatus(ExamStatus.GRADED);
@@ -175,24 +223,28 @@ public class ExamStatusService {
 
 		// 최종 종료 상태로 변경
 		finalizeExam(exam);
+		return exam;
 	}
 
 	// 시험 종료 처리
 	private void finalizeExam(Exam exam) {
 		exam.updateStatus(ExamStatus.COMPLETED);
 		examRepository.save(exam);
-		log.info("시험 종료 처리 완료. examId={}", exam.getId());
 	}
 
 	// 학생 시험 상태에 따라 시험 결과 제출
+	@Transactional
 	public void finishExam(Long courseId, Long examId, String email, boolean force) {
 		Student student = courseAccessValidator.validateStudentEmail(email);
 
 		ExamResult examResult = examResultService.getExamResultInProgress(examId, student.getId());
+		examSubmissionService.flushBufferedAnswers(examResult);
 		if (!force) {
 			examSubmissionService.validateAllQuestionsAnswered(examResult);
 		}
 		examResult.submit(force);
+		examStatisticsService.recordSubmissions(examId, 1);
+		eventPublisher.publishEvent(DashboardChangedEvent.student(student.getId()));
 	}
 
 	public void validateExamInProgress(Exam exam) {
@@ -1,15 +1,25 @@
 package com.example.epari.exam.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.example.epari.exam.domain.ExamQuestion;
 import com.example.epari.exam.domain.ExamResult;
 import com.example.epari.exam.domain.ExamScore;
 import com.example.epari.exam.dto.common.AnswerSubmissionDto;
+import com.example.epari.exam.repository.ExamAnswerBuffer;
 import com.example.epari.exam.repository.ExamQuestionRepository;
+import com.example.epari.exam.repository.ExamResultRepository;
+import com.example.epari.global.common.enums.ExamStatus;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 import com.example.epari.global.validator.ExamSubmissionValidator;
@@ -27,53 +37,39 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class ExamSubmissionService {
 
+	// 버퍼 반영 시 한 번에 조회하는 시험 결과 수
+	private static final int FLUSH_CHUNK_SIZE = 100;
+
 	private final ExamQuestionRepository examQuestionRepository;
 
+	private final ExamResultRepository examResultRepository;
+
 	private final ExamResultService examResultService;
 
 	private final ExamTimeValidator examTimeValidator;
 
 	private final ExamSubmissionValidator examSubmissionValidator;
 
+	private final ExamAnswerBuffer examAnswerBuffer;
+
+	private final ExamSnapshotCache examSnapshotCache;
+
 	// 모든 문제 답안 제출 여부 검사
 	public void validateAllQuestionsAnswered(ExamResult examResult) {
 		examSubmissionValidator.validateAllQuestionsAnswered(examResult);
 	}
 
 	// 답안 임시 저장
+	// DB에 바로 쓰지 않고 Redis 버퍼에 기록한 뒤, 최종 제출/시험 종료 시 일괄 반영
 	public void saveAnswerTemporarily(Long courseId, Long examId, Long questionId, AnswerSubmissionDto answerDto,
 			Long studentId) {
 		ExamResult examResult = examResultService.getExamResultInProgress(examId, studentId);
 		examTimeValidator.validateExamTimeRemaining(examResult.getExam());
 
-		// examId로 함께 검증
-		ExamQuestion question = examQuestionRepository.findByExamIdAndId(examId, questionId)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_QUESTION_NOT_FOUND));
+		// 해당 시험의 문제가 맞는지 검증 (시험 스냅샷의 문제 목록으로 확인)
+		validateQuestionOfExam(examId, questionId);
 
-		// question이 해당 시험의 문제가 맞는지 한번 더 검증
-		if (!question.getExam().getId().equals(examResult.getExam().getId())) {
-			throw new BusinessBaseException(ErrorCode.UNAUTHORIZED_EXAM_ACCESS);
-		}
-
-		// 기존 임시 저장된 답안이 있는지 확인
-		Optional<ExamScore> existingScore = examResult.getScores()
-				.stream()
-				.filter(score -> score.getQuestion().getId().equals(questionId))
-				.findFirst();
-
-		if (existingScore.isPresent()) {
-			// 기존 답안 업데이트
-			existingScore.get().updateAnswer(answerDto.getAnswer());
-		} else {
-			// 새로운 답안 생성
-			ExamScore score = ExamScore.builder()
-					.examResult(examResult)
-					.question(question)
-					.studentAnswer(answerDto.getAnswer())
-					.temporary(true)  // 임시저장 표시
-					.build();
-			examResult.addScore(score);
-		}
+		examAnswerBuffer.save(examId, examResult.getId(), questionId, answerDto.getAnswer());
 	}
 
 	// 답안 제출
@@ -82,17 +78,8 @@ public class ExamSubmissionService {
 		ExamResult examResult = examResultService.getExamResultInProgress(examId, studentId);
 		examTimeValidator.validateExamTimeRemaining(examResult.getExam());
 
-		// examId로 함께 검증
-		ExamQuestion question = examQuestionRepository.findByExamIdAndId(examId, questionId)
-				.orElseThrow(() -> {
-					log.error("문제를 찾을 수 없음 - examId:{}, questionId:{}", examId, questionId);
-					return new BusinessBaseException(ErrorCode.EXAM_QUESTION_NOT_FOUND);
-				});
-
-		// question이 해당 시험의 문제가 맞는지 한번 더 검증
-		if (!question.getExam().getId().equals(examResult.getExam().getId())) {
-			throw new BusinessBaseException(ErrorCode.UNAUTHORIZED_EXAM_ACCESS);
-		}
+		// 해당 시험의 문제가 맞는지 검증 (시험 스냅샷의 문제 목록으로 확인)
+		validateQuestionOfExam(examId, questionId);
 
 		// 기존 답안이 있는지 확인
 		Optional<ExamScore> existingScore = examResult.getScores()
@@ -110,14 +97,109 @@ public class ExamSubmissionService {
 			log.info("새로운 답안 생성 - examId:{}, questionId:{}, answer:{}", examId, questionId, answerDto.getAnswer());
 			ExamScore score = ExamScore.builder()
 					.examResult(examResult)
-					.question(question)
+					.question(examQuestionRepository.getReferenceById(questionId))
 					.studentAnswer(answerDto.getAnswer())
 					.temporary(false)  // 최종 제출
 					.build();
 			examResult.addScore(score);
 		}
 
+		// 최종 제출된 답안이 이후 버퍼 반영 시 임시 답안으로 덮어써지지 않도록 제거
+		runAfterCommit(() -> examAnswerBuffer.remove(examResult.getId(), questionId));
+
 		log.info("답안 제출 완료 - examId:{}, questionId:{}", examId, questionId);
 	}
 
+	// 시험 결과 하나의 버퍼된 임시 저장 답안을 DB에 반영 (학생 최종 제출 시)
+	public void flushBufferedAnswers(ExamResult examResult) {
+		Map<Long, String> answers = examAnswerBuffer.findAnswers(examResult.getId());
+		if (answers.isEmpty()) {
+			return;
+		}
+
+		applyTemporaryAnswers(examResult, answers);
+		examResultRepository.flush();
+
+		// 커밋 후 반영한 답안만 삭제 (조회 이후 새로 임시 저장된 답안은 유지)
+		Long examId = examResult.getExam().getId();
+		runAfterCommit(() -> examAnswerBuffer.clearFlushed(examId, examResult.getId(), answers));
+	}
+
+	// 시험 전체의 버퍼된 임시 저장 답안을 DB에 일괄 반영 (시험 종료 시)
+	public int flushBufferedAnswers(Long examId) {
+		List<Long> resultIds = new ArrayList<>(examAnswerBuffer.findResultIds(examId));
+		Map<Long, Map<Long, String>> readAnswers = new HashMap<>();
+		int flushedCount = 0;
+
+		for (int from = 0; from < resultIds.size(); from += FLUSH_CHUNK_SIZE) {
+			List<Long> chunkIds = resultIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, resultIds.size()));
+
+			for (ExamResult examResult : examResultRepository.findAllWithScoresByIdIn(chunkIds)) {
+				Map<Long, String> answers = examAnswerBuffer.findAnswers(examResult.getId());
+				readAnswers.put(examResult.getId(), answers);
+				// 이미 제출된 결과에 남은 버퍼는 반영하지 않음
+				if (!answers.isEmpty() && examResult.getStatus() == ExamStatus.IN_PROGRESS) {
+					applyTemporaryAnswers(examResult, answers);
+					flushedCount++;
+				}
+			}
+
+			examResultRepository.flush();
+		}
+
+		// 커밋이 완료된 뒤에만 읽은 답안을 비워, 반영 도중 실패하거나 그 사이 임시 저장된 답안이 유실되지 않도록 함
+		runAfterCommit(() -> resultIds.forEach(resultId -> examAnswerBuffer.clearFlushed(examId, resultId,
+				readAnswers.getOrDefault(resultId, Map.of()))));
+
+		log.info("버퍼 답안 반영 완료 - examId:{}, results:{}", examId, flushedCount);
+		return flushedCount;
+	}
+
+	// 시험에 속한 문제인지 검증
+	private void validateQuestionOfExam(Long examId, Long questionId) {
+		if (!examSnapshotCache.getSnapshot(examId).containsQuestion(questionId)) {
+			log.error("문제를 찾을 수 없음 - examId:{}, questionId:{}", examId, questionId);
+			throw new BusinessBaseException(ErrorCode.EXAM_QUESTION_NOT_FOUND);
+		}
+	}
+
+	// 임시 저장 답안 반영 (기존 답안은 내용만 갱신, 없으면 임시 답안으로 생성)
+	private void applyTemporaryAnswers(ExamResult examResult, Map<Long, String> answers) {
+		Map<Long, ExamScore> scoresByQuestionId = examResult.getScores()
+				.stream()
+				.collect(Collectors.toMap(score -> score.getQuestion().getId(), Function.identity(),
+						(first, second) -> first));
+
+		answers.forEach((questionId, answer) -> {
+			ExamScore existingScore = scoresByQuestionId.get(questionId);
+			if (existingScore != null) {
+				existingScore.updateAnswer(answer);
+				return;
+			}
+
+			ExamScore score = ExamScore.builder()
+					.examResult(examResult)
+					.question(examQuestionRepository.getReferenceById(questionId))
+					.studentAnswer(answer)
+					.temporary(true)  // 임시저장 표시
+					.build();
+			examResult.addScore(score);
+		});
+	}
+
+	// 현재 트랜잭션 커밋 후 실행 (트랜잭션이 없으면 즉시 실행)
+	private void runAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
 }
@@ -6,9 +6,11 @@ import org.springframework.stereotype.Component;
 
 import com.example.epari.course.repository.CourseStudentRepository;
 import com.example.epari.exam.domain.ExamResult;
+import com.example.epari.exam.domain.ExamScoreStatistics;
+import com.example.epari.exam.dto.common.ExamResultAggregate;
 import com.example.epari.exam.dto.common.ExamStatistics;
-import com.example.epari.exam.repository.ExamResultRepository;
 import com.example.epari.exam.service.ExamGradingService.ScoreStatistics;
+import com.example.epari.exam.service.ExamStatisticsService;
 import com.example.epari.global.common.enums.ExamStatus;
 
 /*
@@ -19,29 +21,26 @@ public class ScoreCalculator {
 
 	private final CourseStudentRepository courseStudentRepository;
 
-	private final ExamResultRepository examResultRepository;
+	private final ExamStatisticsService examStatisticsService;
 
 	// 생성자 주입
 	public ScoreCalculator(
 			CourseStudentRepository courseStudentRepository,
-			ExamResultRepository examResultRepository
+			ExamStatisticsService examStatisticsService
 	) {
 		this.courseStudentRepository = courseStudentRepository;
-		this.examResultRepository = examResultRepository;
+		this.examStatisticsService = examStatisticsService;
 	}
 
-	// 시험의 평균 점수 계산
+	// 시험의 평균 점수 조회 (시험별로 누적된 통계 사용)
 	public double calculateExamAverageScore(Long examId) {
-		List<ExamResult> gradedResults = examResultRepository
-				.findByExamIdAndStatus(examId, ExamStatus.GRADED);
-		return calculateAverageScore(gradedResults);
+		return examStatisticsService.getStatistics(examId).getAverageScore();
 	}
 
-	// 시험의 최고/최저 점수 통계 계산
+	// 시험의 최고/최저 점수 통계 조회 (시험별로 누적된 통계 사용)
 	public ScoreStatistics calculateExamStatistics(Long examId) {
-		List<ExamResult> gradedResults = examResultRepository
-				.findByExamIdAndStatus(examId, ExamStatus.GRADED);
-		return calculateStatistics(gradedResults);
+		ExamScoreStatistics statistics = examStatisticsService.getStatistics(examId);
+		return new ScoreStatistics(statistics.getMaxScore(), statistics.getMinScore());
 	}
 
 	// 특정 학생 한 명의 평균 점수 계산
@@ -77,6 +76,19 @@ public class ScoreCalculator {
 		return new ScoreStatistics(maxScore, minScore);
 	}
 
+	// 시험별 결과 집계로부터 통계 생성
+	public ExamStatistics calculateExamStatistics(ExamResultAggregate aggregate) {
+		if (aggregate == null || aggregate.getResultCount() == 0) {
+			return new ExamStatistics(0, 0, 0.0); // 기본값 반환
+		}
+
+		return ExamStatistics.builder()
+				.totalStudentCount(aggregate.getCourseStudentCount())
+				.submittedStudentCount(aggregate.getSubmittedCount())
+				.averageScore(aggregate.getAverageScore())
+				.build();
+	}
+
 	// 특정 시험의 통계 계산
 	public ExamStatistics calculateExamStatistics(List<ExamResult> examResults, Long courseId) {
 		if (examResults == null || examResults.isEmpty()) {
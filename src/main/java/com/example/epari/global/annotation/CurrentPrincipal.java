@@ -0,0 +1,15 @@
+package com.example.epari.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자의 ID/역할 정보(ResolvedPrincipal)를 컨트롤러 파라미터로 주입
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentPrincipal {
+
+}
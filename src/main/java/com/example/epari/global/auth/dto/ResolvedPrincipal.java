@@ -0,0 +1,39 @@
+package com.example.epari.global.auth.dto;
+
+import com.example.epari.global.common.base.BaseUser;
+import com.example.epari.global.common.enums.UserRole;
+
+import lombok.Getter;
+
+/**
+ * 인증된 사용자 식별 정보
+ * JWT 이메일로 한 번 조회한 사용자 ID와 역할을 요청 처리 동안 재사용하기 위해 보관
+ */
+@Getter
+public class ResolvedPrincipal {
+
+	private final Long userId;
+
+	private final String email;
+
+	private final UserRole role;
+
+	public ResolvedPrincipal(Long userId, String email, UserRole role) {
+		this.userId = userId;
+		this.email = email;
+		this.role = role;
+	}
+
+	public static ResolvedPrincipal from(BaseUser user) {
+		return new ResolvedPrincipal(user.getId(), user.getEmail(), user.getRole());
+	}
+
+	public boolean isInstructor() {
+		return role == UserRole.INSTRUCTOR;
+	}
+
+	public boolean isStudent() {
+		return role == UserRole.STUDENT;
+	}
+
+}
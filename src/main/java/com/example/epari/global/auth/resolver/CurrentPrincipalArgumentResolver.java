@@ -0,0 +1,46 @@
+package com.example.epari.global.auth.resolver;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.example.epari.global.annotation.CurrentPrincipal;
+import com.example.epari.global.auth.dto.ResolvedPrincipal;
+import com.example.epari.global.auth.service.PrincipalResolver;
+import com.example.epari.global.exception.BusinessBaseException;
+import com.example.epari.global.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @CurrentPrincipal 파라미터에 JWT 이메일로 조회한 사용자 식별 정보를 주입
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final PrincipalResolver principalResolver;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(CurrentPrincipal.class)
+				&& ResolvedPrincipal.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+			throw new BusinessBaseException(ErrorCode.USER_NOT_FOUND);
+		}
+		return principalResolver.resolve(jwt.getClaimAsString("email"));
+	}
+
+}
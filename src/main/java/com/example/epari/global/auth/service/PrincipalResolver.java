@@ -0,0 +1,125 @@
+package com.example.epari.global.auth.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.example.epari.global.auth.dto.ResolvedPrincipal;
+import com.example.epari.global.common.enums.UserRole;
+import com.example.epari.global.common.repository.BaseUserRepository;
+import com.example.epari.global.event.UserChangedEvent;
+import com.example.epari.global.exception.BusinessBaseException;
+import com.example.epari.global.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일로 사용자 ID/역할 조회
+ * 요청 범위 캐시 → Redis 공유 캐시(짧은 TTL) → DB 순으로 조회하여 요청당 사용자 조회를 최대 한 번으로 줄임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalResolver {
+
+	private static final String KEY_PREFIX = "epari::principal::";
+
+	private static final String REQUEST_ATTRIBUTE_PREFIX = PrincipalResolver.class.getName() + ".";
+
+	private static final Duration TTL = Duration.ofMinutes(5);
+
+	private final BaseUserRepository baseUserRepository;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	// 이메일로 사용자 식별 정보 조회
+	public ResolvedPrincipal resolve(String email) {
+		return find(email).orElseThrow(() -> new BusinessBaseException(ErrorCode.USER_NOT_FOUND));
+	}
+
+	// 이메일로 사용자 식별 정보 조회 (없으면 빈 값)
+	public Optional<ResolvedPrincipal> find(String email) {
+		if (email == null) {
+			return Optional.empty();
+		}
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		String attributeName = REQUEST_ATTRIBUTE_PREFIX + email;
+		if (requestAttributes != null) {
+			Object cached = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+			if (cached instanceof ResolvedPrincipal principal) {
+				return Optional.of(principal);
+			}
+		}
+
+		ResolvedPrincipal principal = findShared(email);
+		if (principal == null) {
+			principal = baseUserRepository.findByEmail(email).map(ResolvedPrincipal::from).orElse(null);
+			if (principal == null) {
+				return Optional.empty();
+			}
+			saveShared(principal);
+		}
+
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(attributeName, principal, RequestAttributes.SCOPE_REQUEST);
+		}
+		return Optional.of(principal);
+	}
+
+	// 공유 캐시 제거 (사용자 정보가 변경/삭제된 경우)
+	public void evict(String email) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null) {
+			requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + email, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		try {
+			stringRedisTemplate.delete(KEY_PREFIX + email);
+		} catch (DataAccessException e) {
+			log.warn("Failed to evict principal cache - email: {}", email, e);
+		}
+	}
+
+	// 사용자 등록/삭제 커밋 후 캐시 무효화
+	// 승인 롤백으로 삭제된 사용자가 TTL 동안 이전 ID/역할로 인증되거나, 재승인된 사용자가 이전 ID로 조회되지 않도록 함
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleUserChanged(UserChangedEvent event) {
+		evict(event.getEmail());
+	}
+
+	// 캐시 값 형식: "{userId}:{role}"
+	private ResolvedPrincipal findShared(String email) {
+		try {
+			String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + email);
+			if (value == null) {
+				return null;
+			}
+			int separator = value.indexOf(':');
+			return new ResolvedPrincipal(Long.valueOf(value.substring(0, separator)), email,
+					UserRole.valueOf(value.substring(separator + 1)));
+		} catch (DataAccessException | IllegalArgumentException | IndexOutOfBoundsException e) {
+			// 캐시 장애나 손상된 값은 DB 조회로 대체
+			log.warn("Failed to read principal cache - email: {}", email, e);
+			return null;
+		}
+	}
+
+	private void saveShared(ResolvedPrincipal principal) {
+		try {
+			stringRedisTemplate.opsForValue()
+					.set(KEY_PREFIX + principal.getEmail(), principal.getUserId() + ":" + principal.getRole().name(),
+							TTL);
+		} catch (DataAccessException e) {
+			log.warn("Failed to write principal cache - email: {}", principal.getEmail(), e);
+		}
+	}
+
+}
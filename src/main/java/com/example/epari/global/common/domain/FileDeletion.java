@@ -0,0 +1,98 @@
+package com.example.epari.global.common.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.epari.global.common.base.BaseTimeEntity;
+import com.example.epari.global.common.enums.FileDeletionStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * S3 파일 삭제 예약 (Transactional Outbox)
+ * 엔티티 삭제와 같은 트랜잭션에 삭제할 객체 키를 한 행으로 저장하고, 커밋된 예약만 백그라운드에서 일괄 삭제
+ * 일부 객체만 삭제에 실패하면 남은 키만 보관하여 재시도하고, 최대 시도 횟수를 넘기면 실패 상태로 남김
+ */
+@Entity
+@Table(name = "file_deletion", indexes = @Index(name = "idx_file_deletion_status_next_attempt",
+		columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileDeletion extends BaseTimeEntity {
+
+	private static final String KEY_DELIMITER = "\n";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 삭제할 객체 키 목록 (줄바꿈 구분)
+	@Column(columnDefinition = "LONGTEXT", nullable = false)
+	private String objectKeys;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private FileDeletionStatus status;
+
+	@Column(nullable = false)
+	private int attemptCount;
+
+	// 다음 삭제 시도 가능 시각
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	// 마지막 실패 사유
+	@Column(length = 1000)
+	private String lastError;
+
+	private FileDeletion(Collection<String> objectKeys, LocalDateTime nextAttemptAt) {
+		this.objectKeys = String.join(KEY_DELIMITER, objectKeys);
+		this.status = FileDeletionStatus.PENDING;
+		this.attemptCount = 0;
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public static FileDeletion of(Collection<String> objectKeys) {
+		return new FileDeletion(objectKeys, LocalDateTime.now());
+	}
+
+	// 지정 시각 이후에 삭제 (취소되지 않으면 삭제되는 예약)
+	public static FileDeletion scheduledAt(Collection<String> objectKeys, LocalDateTime nextAttemptAt) {
+		return new FileDeletion(objectKeys, nextAttemptAt);
+	}
+
+	public List<String> getObjectKeyList() {
+		return List.of(objectKeys.split(KEY_DELIMITER));
+	}
+
+	// 삭제하지 못한 키만 남기고 재시도 예약
+	public void retry(Collection<String> remainingKeys, String error, LocalDateTime nextAttemptAt) {
+		recordFailure(remainingKeys, error);
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	// 최대 시도 횟수 초과 시 실패 상태로 보관 (수동 확인 대상)
+	public void fail(Collection<String> remainingKeys, String error) {
+		recordFailure(remainingKeys, error);
+		this.status = FileDeletionStatus.FAILED;
+	}
+
+	private void recordFailure(Collection<String> remainingKeys, String error) {
+		this.objectKeys = String.join(KEY_DELIMITER, remainingKeys);
+		this.attemptCount++;
+		this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.example.epari.global.common.enums;
+
+import lombok.Getter;
+
+/**
+ * S3 파일 삭제 예약 상태
+ */
+@Getter
+public enum FileDeletionStatus {
+	PENDING("삭제 대기"),
+	FAILED("삭제 실패");
+
+	private final String description;
+
+	FileDeletionStatus(String description) {
+		this.description = description;
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.epari.global.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 조회수 집계 대상
+ */
+@Getter
+public enum ViewCountTarget {
+	NOTICE("공지사항"),
+	BOARD_QUESTION("QnA 질문");
+
+	private final String description;
+
+	ViewCountTarget(String description) {
+		this.description = description;
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.epari.global.common.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.epari.global.common.domain.FileDeletion;
+import com.example.epari.global.common.enums.FileDeletionStatus;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+	/**
+	 * 삭제 시도 시각이 지난 예약 조회 (먼저 예약된 순)
+	 */
+	@Query("SELECT d FROM FileDeletion d WHERE d.status = :status AND d.nextAttemptAt <= :now ORDER BY d.id")
+	List<FileDeletion> findDue(@Param("status") FileDeletionStatus status, @Param("now") LocalDateTime now,
+			Pageable pageable);
+
+}
@@ -0,0 +1,62 @@
+package com.example.epari.global.common.scheduler;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.epari.global.common.service.FileDeletionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * S3 파일 삭제 스케줄러
+ * 예약된 파일 삭제를 주기적으로 일괄 처리
+ * 여러 노드 중 락을 획득한 노드만 처리하며, 처리하지 못한 예약은 다음 주기에 다시 처리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDeletionScheduler {
+
+	// 처리 작업이 비정상 종료되어도 락이 자동 해제되는 시간
+	private static final Duration PROCESS_LOCK_TIMEOUT = Duration.ofMinutes(5);
+
+	// 한 주기에 처리하는 최대 묶음 수 (예약이 밀려도 한 주기가 길어지지 않도록 제한)
+	private static final int MAX_BATCHES_PER_RUN = 20;
+
+	private final FileDeletionService fileDeletionService;
+
+	// 10초마다 실행
+	@Scheduled(fixedDelay = 10000, initialDelay = 10000)
+	public void processFileDeletions() {
+		String token = UUID.randomUUID().toString();
+		try {
+			if (!fileDeletionService.tryLockProcessing(token, PROCESS_LOCK_TIMEOUT)) {
+				return;
+			}
+		} catch (Exception e) {
+			log.warn("Failed to acquire file deletion lock", e);
+			return;
+		}
+
+		try {
+			for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+				if (fileDeletionService.processDue() == 0) {
+					break;
+				}
+			}
+		} catch (Exception e) {
+			log.error("Failed to process file deletions", e);
+		} finally {
+			try {
+				fileDeletionService.unlockProcessing(token);
+			} catch (Exception e) {
+				log.warn("Failed to release file deletion lock", e);
+			}
+		}
+	}
+
+}
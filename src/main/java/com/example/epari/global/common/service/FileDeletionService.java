@@ -0,0 +1,167 @@
+package com.example.epari.global.common.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.epari.global.common.domain.FileDeletion;
+import com.example.epari.global.common.enums.FileDeletionStatus;
+import com.example.epari.global.common.repository.FileDeletionRepository;
+import com.example.epari.global.exception.file.InvalidFileUrlException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 파일 삭제 예약 서비스
+ * 요청 처리 중에는 삭제할 객체 키를 한 번의 DB 저장으로 예약만 하고,
+ * 스케줄러가 예약된 키를 모아 DeleteObjects로 일괄 삭제하며 실패한 키는 지수 백오프로 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionService {
+
+	private static final String PROCESS_LOCK_KEY = "epari::file-deletion::process-lock";
+
+	// 락 소유자가 자신일 때만 해제
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	// 한 번에 처리하는 예약 수
+	private static final int BATCH_SIZE = 100;
+
+	// 최대 시도 횟수 (초과 시 실패 상태로 보관)
+	private static final int MAX_ATTEMPTS = 8;
+
+	private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(1);
+
+	private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+	private final FileDeletionRepository fileDeletionRepository;
+
+	private final S3FileService s3FileService;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	// 파일 삭제 예약 (호출한 트랜잭션에 함께 저장되어, 커밋된 경우에만 삭제됨)
+	@Transactional
+	public void deleteLater(Collection<String> fileUrls) {
+		Set<String> keys = new LinkedHashSet<>();
+		for (String fileUrl : fileUrls) {
+			if (fileUrl == null || fileUrl.isBlank()) {
+				continue;
+			}
+			try {
+				keys.add(s3FileService.extractKeyFromUrl(fileUrl));
+			} catch (InvalidFileUrlException e) {
+				log.warn("Skipping deletion of non-S3 file URL: {}", fileUrl);
+			}
+		}
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		fileDeletionRepository.save(FileDeletion.of(keys));
+		log.info("File deletion scheduled - objects: {}", keys.size());
+	}
+
+	// 지연 삭제 예약 (지연 시간 안에 취소하지 않으면 삭제됨, 취소용 예약 ID 반환)
+	@Transactional
+	public Long scheduleDeletion(Collection<String> objectKeys, Duration delay) {
+		FileDeletion deletion = fileDeletionRepository.save(
+				FileDeletion.scheduledAt(objectKeys, LocalDateTime.now().plus(delay)));
+		return deletion.getId();
+	}
+
+	// 지연 삭제 예약 취소 (호출한 트랜잭션이 커밋된 경우에만 취소됨)
+	@Transactional
+	public void cancelDeletion(Long deletionId) {
+		fileDeletionRepository.findById(deletionId).ifPresent(fileDeletionRepository::delete);
+	}
+
+	// 삭제 시도 시각이 지난 예약을 한 묶음 처리하고 처리한 예약 수 반환
+	// S3 삭제는 트랜잭션 밖에서 수행하고, 결과 반영만 트랜잭션으로 처리
+	public int processDue() {
+		List<FileDeletion> deletions = fileDeletionRepository.findDue(FileDeletionStatus.PENDING,
+				LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+		if (deletions.isEmpty()) {
+			return 0;
+		}
+
+		Set<String> keys = deletions.stream()
+				.flatMap(deletion -> deletion.getObjectKeyList().stream())
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		Map<String, String> failures = s3FileService.deleteObjects(keys);
+
+		transactionTemplate.executeWithoutResult(status -> applyResults(
+				deletions.stream().map(FileDeletion::getId).toList(), failures));
+		return deletions.size();
+	}
+
+	// 처리 락 획득 (여러 노드가 같은 예약을 중복 처리하지 않도록 함)
+	public boolean tryLockProcessing(String token, Duration timeout) {
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(PROCESS_LOCK_KEY, token, timeout));
+	}
+
+	public void unlockProcessing(String token) {
+		stringRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(PROCESS_LOCK_KEY), token);
+	}
+
+	// 모두 삭제된 예약은 제거하고, 남은 키가 있으면 재시도 예약 또는 실패 처리
+	private void applyResults(List<Long> deletionIds, Map<String, String> failures) {
+		Map<Long, FileDeletion> deletions = fileDeletionRepository.findAllById(deletionIds).stream()
+				.collect(Collectors.toMap(FileDeletion::getId, Function.identity()));
+
+		for (FileDeletion deletion : deletions.values()) {
+			List<String> remainingKeys = deletion.getObjectKeyList().stream()
+					.filter(failures::containsKey)
+					.toList();
+			if (remainingKeys.isEmpty()) {
+				fileDeletionRepository.delete(deletion);
+				continue;
+			}
+
+			String error = remainingKeys.stream()
+					.map(failures::get)
+					.filter(Objects::nonNull)
+					.findFirst()
+					.orElse(null);
+			if (deletion.getAttemptCount() + 1 >= MAX_ATTEMPTS) {
+				deletion.fail(remainingKeys, error);
+				log.error("File deletion failed permanently - id: {}, remaining objects: {}, error: {}",
+						deletion.getId(), remainingKeys.size(), error);
+			} else {
+				deletion.retry(remainingKeys, error, LocalDateTime.now().plus(backoff(deletion.getAttemptCount())));
+				log.warn("File deletion will be retried - id: {}, remaining objects: {}, attempt: {}",
+						deletion.getId(), remainingKeys.size(), deletion.getAttemptCount());
+			}
+		}
+	}
+
+	// 1분부터 두 배씩 늘리되 최대 1시간
+	private Duration backoff(int previousAttempts) {
+		Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(previousAttempts, 10));
+		return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+	}
+
+}
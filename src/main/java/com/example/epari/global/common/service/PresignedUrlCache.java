@@ -0,0 +1,73 @@
+package com.example.epari.global.common.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Presigned URL 캐시
+ * (객체 키, 유효 기간)별로 서명한 URL을 서버 메모리에 보관하여, 같은 파일을 반복 조회할 때 서명(SigV4 HMAC)을 생략
+ * 재사용 기간은 유효 기간의 1/10(최대 1시간)으로 제한하여, 반환되는 URL은 요청한 유효 기간의 90% 이상이 항상 남아 있음
+ */
+@Component
+public class PresignedUrlCache {
+
+	private static final Duration MAX_REUSE_WINDOW = Duration.ofHours(1);
+
+	private static final int REUSE_WINDOW_DIVISOR = 10;
+
+	// 최대 보관 객체 수 (초과 시 전체 비움)
+	private static final int MAX_OBJECTS = 10_000;
+
+	// 객체 키 → (유효 기간(초) → 서명된 URL)
+	private final Map<String, Map<Long, CachedUrl>> cache = new ConcurrentHashMap<>();
+
+	// 캐시된 URL 조회 (없거나 재사용 기간이 지났으면 새로 서명하여 저장)
+	public String get(String objectKey, Duration expiration, Supplier<String> signer) {
+		long now = System.currentTimeMillis();
+		Map<Long, CachedUrl> urls = cache.get(objectKey);
+		CachedUrl cached = urls != null ? urls.get(expiration.getSeconds()) : null;
+		if (cached != null && cached.reusableUntil > now) {
+			return cached.url;
+		}
+
+		String url = signer.get();
+		if (cache.size() >= MAX_OBJECTS) {
+			cache.clear();
+		}
+		cache.computeIfAbsent(objectKey, key -> new ConcurrentHashMap<>())
+				.put(expiration.getSeconds(), new CachedUrl(url, now + reuseWindow(expiration).toMillis()));
+		return url;
+	}
+
+	// 삭제된 객체의 URL 제거
+	public void evict(String objectKey) {
+		cache.remove(objectKey);
+	}
+
+	private Duration reuseWindow(Duration expiration) {
+		Duration window = expiration.dividedBy(REUSE_WINDOW_DIVISOR);
+		return window.compareTo(MAX_REUSE_WINDOW) < 0 ? window : MAX_REUSE_WINDOW;
+	}
+
+	/*
+	 * 캐시 항목
+	 */
+	private static class CachedUrl {
+
+		private final String url;
+
+		// 이 시각까지만 재사용 (이후에는 남은 유효 기간이 부족하므로 다시 서명)
+		private final long reusableUntil;
+
+		CachedUrl(String url, long reusableUntil) {
+			this.url = url;
+			this.reusableUntil = reusableUntil;
+		}
+
+	}
+
+}
@@ -2,26 +2,40 @@ package com.example.epari.global.common.service;
 
 import com.example.epari.global.config.aws.AwsS3Properties;
 import com.example.epari.global.exception.file.*;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class S3FileService {
 
@@ -31,6 +45,12 @@ public class S3FileService {
 
 	private final AwsS3Properties awsS3Properties;
 
+	private final PresignedUrlCache presignedUrlCache;
+
+	private final AsyncTaskExecutor s3UploadTaskExecutor;
+
+	private final AsyncTaskExecutor s3PartUploadTaskExecutor;
+
 	// 허용된 파일 확장자 목록
 	private static final Set<String> ALLOWED_EXTENSIONS = new HashSet<>(Arrays.asList(
 			"jpg", "jpeg", "png", "gif", "pdf", "doc", "docx", "xls", "xlsx", "ppt", "pptx", "txt"
@@ -39,42 +59,231 @@ public class S3FileService {
 	// 최대 파일 크기 (10MB)
 	private static final long MAX_FILE_SIZE = 50 * 1024 * 1024;
 
+	// 멀티파트 업로드 기준 크기 (이보다 큰 파일은 파트로 나누어 병렬 업로드)
+	private static final long MULTIPART_THRESHOLD = 16 * 1024 * 1024;
+
+	// 파트 크기 (S3 최소 파트 크기 5MB 이상)
+	private static final int PART_SIZE = 8 * 1024 * 1024;
+
+	// 파일당 동시에 업로드하는 파트 수 (파일당 파트 버퍼 메모리 = 파트 크기 x 동시 파트 수)
+	private static final int MAX_IN_FLIGHT_PARTS = 4;
+
+	private static final int PART_MAX_ATTEMPTS = 3;
+
+	private static final long PART_RETRY_BACKOFF_MILLIS = 200;
+
+	// DeleteObjects 요청당 최대 객체 수 (S3 제한)
+	private static final int DELETE_BATCH_SIZE = 1000;
+
+	public S3FileService(S3Client s3Client, S3Presigner s3Presigner, AwsS3Properties awsS3Properties,
+			PresignedUrlCache presignedUrlCache,
+			@Qualifier("s3UploadTaskExecutor") AsyncTaskExecutor s3UploadTaskExecutor,
+			@Qualifier("s3PartUploadTaskExecutor") AsyncTaskExecutor s3PartUploadTaskExecutor) {
+		this.s3Client = s3Client;
+		this.s3Presigner = s3Presigner;
+		this.awsS3Properties = awsS3Properties;
+		this.presignedUrlCache = presignedUrlCache;
+		this.s3UploadTaskExecutor = s3UploadTaskExecutor;
+		this.s3PartUploadTaskExecutor = s3PartUploadTaskExecutor;
+	}
+
 	/**
 	 * 파일 업로드
 	 */
 	public String uploadFile(String directory, MultipartFile file) {
-		log.info("Starting file upload to directory: {}", directory);
 		validateFile(file);
+		return putFile(directory, file);
+	}
+
+	/**
+	 * 여러 파일 병렬 업로드
+	 * 모든 파일을 먼저 검사한 뒤 동시에 업로드하며, 반환되는 URL 순서는 파일 순서와 같음
+	 * 하나라도 실패하면 업로드된 파일을 삭제하고 예외 발생
+	 */
+	public List<String> uploadFiles(String directory, List<MultipartFile> files) {
+		if (files == null || files.isEmpty()) {
+			return List.of();
+		}
+		files.forEach(this::validateFile);
+
+		List<CompletableFuture<String>> uploads = files.stream()
+				.map(file -> CompletableFuture.supplyAsync(() -> putFile(directory, file), s3UploadTaskExecutor))
+				.toList();
+
+		List<String> fileUrls = new ArrayList<>();
+		RuntimeException failure = null;
+		for (CompletableFuture<String> upload : uploads) {
+			try {
+				fileUrls.add(upload.join());
+			} catch (CompletionException e) {
+				failure = e.getCause() instanceof RuntimeException cause ? cause : new FileUploadFailedException();
+			}
+		}
+
+		if (failure != null) {
+			deleteFilesQuietly(fileUrls);
+			throw failure;
+		}
+		return fileUrls;
+	}
 
+	/**
+	 * 여러 파일 삭제 (실패한 파일은 로그만 남김, 저장 실패 시 업로드한 파일 정리용)
+	 */
+	public void deleteFilesQuietly(Collection<String> fileUrls) {
+		for (String fileUrl : fileUrls) {
+			try {
+				deleteFile(fileUrl);
+			} catch (Exception e) {
+				log.error("Failed to clean up uploaded file: {}", fileUrl, e);
+			}
+		}
+	}
+
+	private String putFile(String directory, MultipartFile file) {
+		log.info("Starting file upload to directory: {}", directory);
 		String originalFilename = file.getOriginalFilename();
 		String storedFileName = createStoredFileName(originalFilename);
 		String fullPath = directory + "/" + storedFileName;
 
 		try {
-			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-					.bucket(awsS3Properties.getBucket())
-					.key(fullPath)
-					.contentType(file.getContentType())
-					.contentLength(file.getSize())
-					.build();
+			long startedAt = System.currentTimeMillis();
+			boolean multipart = file.getSize() > MULTIPART_THRESHOLD;
+			if (multipart) {
+				putMultipart(fullPath, file);
+			} else {
+				PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+						.bucket(awsS3Properties.getBucket())
+						.key(fullPath)
+						.contentType(file.getContentType())
+						.contentLength(file.getSize())
+						.build();
 
-			s3Client.putObject(putObjectRequest,
-					RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-			GetUrlRequest getUrlRequest = GetUrlRequest.builder()
-					.bucket(awsS3Properties.getBucket())
-					.key(fullPath)
-					.build();
+				s3Client.putObject(putObjectRequest,
+						RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+			}
+			long elapsedMillis = System.currentTimeMillis() - startedAt;
 
-			String fileUrl = s3Client.utilities().getUrl(getUrlRequest).toString();
-			log.info("File successfully uploaded: {}", fileUrl);
+			String fileUrl = getFileUrl(fullPath);
+			// 업로드 방식별 처리 시간 비교용
+			log.info("File successfully uploaded: {}, size: {} bytes, multipart: {}, elapsedMs: {}",
+					fileUrl, file.getSize(), multipart, elapsedMillis);
 			return fileUrl;
-		} catch (IOException e) {
+		} catch (IOException | SdkException e) {
 			log.error("Failed to upload file: {}", originalFilename, e);
 			throw new FileUploadFailedException();
 		}
 	}
 
+	/**
+	 * 멀티파트 업로드
+	 * 파일을 파트 단위로 순서대로 읽어 병렬 업로드하며, 동시에 메모리에 올리는 파트 수를 제한하여 파일 크기와 관계없이 버퍼 메모리 유지
+	 * 실패한 파트는 개별적으로 재시도하고, 최종 실패 시 멀티파트 업로드를 중단하여 업로드된 파트 정리
+	 * 같은 패키지의 업로드 벤치마크(S3UploadBenchmark)에서 직접 호출하므로 package-private으로 둠
+	 */
+	void putMultipart(String key, MultipartFile file) throws IOException {
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+				.bucket(awsS3Properties.getBucket())
+				.key(key)
+				.contentType(file.getContentType())
+				.build()).uploadId();
+
+		Semaphore inFlightParts = new Semaphore(MAX_IN_FLIGHT_PARTS);
+		List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+		try (InputStream inputStream = file.getInputStream()) {
+			int partNumber = 1;
+			while (true) {
+				// 이미 실패한 파트가 있으면 나머지 파트는 읽지 않음
+				if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+					break;
+				}
+				// 파트를 읽기 전에 자리를 확보하여 메모리에 올라가는 파트가 동시 업로드 수를 넘지 않도록 함
+				inFlightParts.acquire();
+				byte[] data = inputStream.readNBytes(PART_SIZE);
+				if (data.length == 0) {
+					inFlightParts.release();
+					break;
+				}
+
+				int number = partNumber++;
+				parts.add(CompletableFuture
+						.supplyAsync(() -> uploadPart(key, uploadId, number, data), s3PartUploadTaskExecutor)
+						.whenComplete((completedPart, e) -> inFlightParts.release()));
+			}
+
+			List<CompletedPart> completedParts = new ArrayList<>();
+			for (CompletableFuture<CompletedPart> part : parts) {
+				try {
+					completedParts.add(part.join());
+				} catch (CompletionException e) {
+					throw e.getCause() instanceof RuntimeException cause ? cause : e;
+				}
+			}
+
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+					.bucket(awsS3Properties.getBucket())
+					.key(key)
+					.uploadId(uploadId)
+					.multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+					.build());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abortMultipart(key, uploadId, parts);
+			throw new FileUploadFailedException();
+		} catch (IOException | RuntimeException e) {
+			abortMultipart(key, uploadId, parts);
+			throw e;
+		}
+	}
+
+	// 파트 업로드 (실패 시 해당 파트만 재시도)
+	private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] data) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+						.bucket(awsS3Properties.getBucket())
+						.key(key)
+						.uploadId(uploadId)
+						.partNumber(partNumber)
+						.contentLength((long)data.length)
+						.build();
+
+				// 파트 버퍼를 복사하지 않도록 스트림으로 전달
+				String eTag = s3Client.uploadPart(uploadPartRequest,
+						RequestBody.fromInputStream(new ByteArrayInputStream(data), data.length)).eTag();
+				return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+			} catch (SdkException e) {
+				if (attempt >= PART_MAX_ATTEMPTS) {
+					throw e;
+				}
+				log.warn("Retrying part upload - key: {}, part: {}, attempt: {}", key, partNumber, attempt, e);
+				try {
+					Thread.sleep(PART_RETRY_BACKOFF_MILLIS * attempt);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
+
+	// 진행 중인 파트가 끝나기를 기다린 뒤 멀티파트 업로드 중단
+	private void abortMultipart(String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+		CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+				.exceptionally(e -> null)
+				.join();
+		try {
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+					.bucket(awsS3Properties.getBucket())
+					.key(key)
+					.uploadId(uploadId)
+					.build());
+		} catch (SdkException e) {
+			// 중단하지 못한 업로드는 버킷 수명 주기 정책으로 정리
+			log.error("Failed to abort multipart upload - key: {}, uploadId: {}", key, uploadId, e);
+		}
+	}
+
 	/**
 	 * 파일 삭제
 	 */
@@ -89,6 +298,7 @@ public class S3FileService {
 					.build();
 
 			s3Client.deleteObject(deleteObjectRequest);
+			presignedUrlCache.evict(key);
 			log.info("File successfully deleted: {}", fileUrl);
 		} catch (NoSuchKeyException e) {
 			log.error("File not found: {}", fileUrl);
@@ -99,13 +309,71 @@ public class S3FileService {
 		}
 	}
 
+	/**
+	 * 여러 객체 일괄 삭제 (DeleteObjects, 요청당 최대 1,000개)
+	 * 삭제하지 못한 객체의 키와 실패 사유를 반환 (이미 없는 객체는 삭제된 것으로 처리)
+	 */
+	public Map<String, String> deleteObjects(Collection<String> keys) {
+		List<String> keyList = new ArrayList<>(keys);
+		Map<String, String> failures = new HashMap<>();
+
+		for (int from = 0; from < keyList.size(); from += DELETE_BATCH_SIZE) {
+			List<String> batch = keyList.subList(from, Math.min(from + DELETE_BATCH_SIZE, keyList.size()));
+			try {
+				DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+						.bucket(awsS3Properties.getBucket())
+						.delete(Delete.builder()
+								.objects(batch.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+								.quiet(true)
+								.build())
+						.build();
+
+				DeleteObjectsResponse response = s3Client.deleteObjects(request);
+				for (S3Error error : response.errors()) {
+					failures.put(error.key(), error.code() + ": " + error.message());
+				}
+			} catch (SdkException e) {
+				log.error("Failed to delete objects - batch size: {}", batch.size(), e);
+				batch.forEach(key -> failures.put(key, String.valueOf(e.getMessage())));
+			}
+
+			batch.stream().filter(key -> !failures.containsKey(key)).forEach(presignedUrlCache::evict);
+		}
+
+		log.info("Objects deleted - requested: {}, failed: {}", keyList.size(), failures.size());
+		return failures;
+	}
+
 	/**
 	 * 임시 다운로드 URL 생성 (Presigned URL)
+	 * 같은 파일/유효 기간으로 최근 서명한 URL이 있으면 재사용
 	 */
 	public String generatePresignedUrl(String fileUrl, Duration expiration) {
-		log.info("Generating presigned URL for: {}", fileUrl);
 		String key = extractKeyFromUrl(fileUrl);
+		return presignedUrlCache.get(key, expiration, () -> presign(fileUrl, key, expiration));
+	}
 
+	/**
+	 * 여러 파일의 임시 다운로드 URL 일괄 생성 (목록 조회용)
+	 * 원본 URL → Presigned URL, 서명에 실패한 파일은 결과에서 제외
+	 */
+	public Map<String, String> generatePresignedUrls(Collection<String> fileUrls, Duration expiration) {
+		Map<String, String> presignedUrls = new LinkedHashMap<>();
+		for (String fileUrl : fileUrls) {
+			if (presignedUrls.containsKey(fileUrl)) {
+				continue;
+			}
+			try {
+				presignedUrls.put(fileUrl, generatePresignedUrl(fileUrl, expiration));
+			} catch (InvalidFileUrlException | FileDownloadFailedException e) {
+				log.warn("Skipping presigned URL for: {}", fileUrl);
+			}
+		}
+		return presignedUrls;
+	}
+
+	private String presign(String fileUrl, String key, Duration expiration) {
+		log.info("Generating presigned URL for: {}", fileUrl);
 		try {
 			GetObjectRequest getObjectRequest = GetObjectRequest.builder()
 					.bucket(awsS3Properties.getBucket())
@@ -126,6 +394,71 @@ public class S3FileService {
 		}
 	}
 
+	/**
+	 * 직접 업로드용 객체 키 생성 (파일명/크기 검사 후 업로드 디렉토리 아래 고유한 키 생성)
+	 */
+	public String createUploadKey(String directory, String originalFilename, long fileSize) {
+		validateFileMetadata(originalFilename, fileSize);
+		return directory + "/" + createStoredFileName(originalFilename);
+	}
+
+	/**
+	 * 직접 업로드 URL 생성 (Presigned PUT)
+	 * 콘텐츠 타입과 크기를 서명에 포함하여, 클라이언트가 요청한 것과 다른 파일을 올리지 못하도록 함
+	 */
+	public String generatePresignedUploadUrl(String key, String contentType, long fileSize, Duration expiration) {
+		try {
+			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+					.bucket(awsS3Properties.getBucket())
+					.key(key)
+					.contentType(contentType)
+					.contentLength(fileSize)
+					.build();
+
+			PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+					.signatureDuration(expiration)
+					.putObjectRequest(putObjectRequest)
+					.build();
+
+			return s3Presigner.presignPutObject(presignRequest).url().toString();
+		} catch (Exception e) {
+			log.error("Failed to generate presigned upload URL for: {}", key, e);
+			throw new FileUploadFailedException();
+		}
+	}
+
+	/**
+	 * 업로드된 객체 크기 조회 (HEAD, 객체가 없으면 빈 값)
+	 */
+	public Optional<Long> findObjectSize(String key) {
+		try {
+			HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+					.bucket(awsS3Properties.getBucket())
+					.key(key)
+					.build());
+			return Optional.of(response.contentLength());
+		} catch (NoSuchKeyException e) {
+			return Optional.empty();
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				return Optional.empty();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 객체 키의 파일 URL
+	 */
+	public String getFileUrl(String key) {
+		GetUrlRequest getUrlRequest = GetUrlRequest.builder()
+				.bucket(awsS3Properties.getBucket())
+				.key(key)
+				.build();
+
+		return s3Client.utilities().getUrl(getUrlRequest).toString();
+	}
+
 	/**
 	 * 파일 유효성 검사
 	 */
@@ -136,14 +469,30 @@ public class S3FileService {
 			throw new FileEmptyException();
 		}
 
+		validateFileMetadata(file.getOriginalFilename(), file.getSize());
+	}
+
+	/**
+	 * 파일명/크기 검사 (직접 업로드 요청도 같은 기준 적용)
+	 */
+	private void validateFileMetadata(String originalFilename, long fileSize) {
+		if (fileSize <= 0) {
+			log.warn("Empty file detected");
+			throw new FileEmptyException();
+		}
+
 		// 파일 크기 검사
-		if (file.getSize() > MAX_FILE_SIZE) {
-			log.warn("File size exceeded: {} bytes", file.getSize());
+		if (fileSize > MAX_FILE_SIZE) {
+			log.warn("File size exceeded: {} bytes", fileSize);
 			throw new FileSizeExceededException();
 		}
 
 		// 파일 확장자 검사
-		String extension = extractExt(file.getOriginalFilename()).toLowerCase();
+		if (originalFilename == null || !originalFilename.contains(".")) {
+			log.warn("File without extension detected: {}", originalFilename);
+			throw new InvalidFileTypeException();
+		}
+		String extension = extractExt(originalFilename).toLowerCase();
 		if (!ALLOWED_EXTENSIONS.contains(extension)) {
 			log.warn("Invalid file type detected: {}", extension);
 			throw new InvalidFileTypeException();
@@ -161,7 +510,10 @@ public class S3FileService {
 		return originalFilename.substring(pos + 1);
 	}
 
-	private String extractKeyFromUrl(String fileUrl) {
+	/**
+	 * 파일 URL에서 객체 키 추출
+	 */
+	public String extractKeyFromUrl(String fileUrl) {
 		String bucket = awsS3Properties.getBucket();
 		String region = awsS3Properties.getRegion();
 		String prefix = String.format("https://%s.s3.%s.amazonaws.com/", bucket, region);
@@ -0,0 +1,41 @@
+package com.example.epari.global.common.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+/*
+ * 수강생 명단과 제출 결과 병합
+ * 결과를 학생 ID로 색인한 뒤 명단을 한 번만 순회하여, 수강생 수와 결과 수에 비례하는 시간에 병합
+ */
+@Component
+public class RosterMerger {
+
+	// 명단 순서대로 제출 결과가 있으면 제출 DTO, 없으면 미제출 DTO 생성
+	public <S, R, D> List<D> merge(
+			List<S> roster,
+			Function<S, Long> rosterKey,
+			List<R> results,
+			Function<R, Long> resultKey,
+			Function<R, D> submittedMapper,
+			Function<S, D> unsubmittedMapper
+	) {
+		Map<Long, R> resultsByKey = new HashMap<>((int)(results.size() / 0.75f) + 1);
+		for (R result : results) {
+			// 같은 학생의 결과가 여러 건이면 먼저 조회된 결과 사용
+			resultsByKey.putIfAbsent(resultKey.apply(result), result);
+		}
+
+		List<D> merged = new ArrayList<>(roster.size());
+		for (S member : roster) {
+			R result = resultsByKey.get(rosterKey.apply(member));
+			merged.add(result != null ? submittedMapper.apply(result) : unsubmittedMapper.apply(member));
+		}
+		return merged;
+	}
+
+}
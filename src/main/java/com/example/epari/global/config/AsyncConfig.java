@@ -1,7 +1,10 @@
 package com.example.epari.global.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -10,6 +13,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+	// @Async 및 이름을 지정하지 않은 주입에 사용되는 기본 실행기
+	@Primary
 	@Bean
 	public AsyncTaskExecutor asyncTaskExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -21,4 +26,58 @@ public class AsyncConfig {
 		return executor;
 	}
 
+	// 대시보드 구성 시 여러 조회를 병렬로 수행하는 실행기
+	// 요청이 몰려 큐가 가득 차면 요청 스레드에서 직접 실행하여 조회가 거절되지 않도록 함
+	@Bean
+	public AsyncTaskExecutor dashboardTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(200);
+		executor.setThreadNamePrefix("Dashboard-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// 파일 다운로드 등 비동기 응답 본문(StreamingResponseBody)을 작성하는 실행기
+	@Bean
+	public AsyncTaskExecutor mvcAsyncTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(32);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("MvcAsync-");
+		executor.initialize();
+		return executor;
+	}
+
+	// 여러 파일을 S3에 동시에 업로드하는 실행기
+	// 큐가 가득 차면 요청 스레드에서 직접 업로드하여 업로드가 거절되지 않도록 함
+	@Bean
+	public AsyncTaskExecutor s3UploadTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("S3Upload-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// 멀티파트 업로드의 파트를 동시에 업로드하는 실행기
+	// 파일 단위 업로드 실행기와 분리하여, 파일 업로드 작업이 파트 업로드를 기다리며 서로를 막지 않도록 함
+	@Bean
+	public AsyncTaskExecutor s3PartUploadTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(50);
+		executor.setThreadNamePrefix("S3PartUpload-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
 }
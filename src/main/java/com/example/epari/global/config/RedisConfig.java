@@ -5,9 +5,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -15,10 +17,15 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.example.epari.global.config.cache.CacheCodec;
+import com.example.epari.global.config.cache.CacheRefreshPolicy;
+import com.example.epari.global.config.cache.NearCacheManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -109,6 +116,17 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * Redis Pub/Sub 메시지 수신 컨테이너
+	 * 여러 서버 노드 간 이벤트 전파에 사용
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
 	/**
 	 * 기본 Redis 캐시 설정을 정의하는 빈
 	 */
@@ -130,29 +148,67 @@ public class RedisConfig {
 	 * 캐시별 설정을 생성하는 메서드
 	 */
 	private Map<String, RedisCacheConfiguration> createCacheConfigurations(
-			RedisCacheConfiguration defaultCacheConfig) {
+			RedisCacheConfiguration defaultCacheConfig,
+			GenericJackson2JsonRedisSerializer jsonSerializer) {
 		Map<String, RedisCacheConfiguration> configMap = new HashMap<>();
 
-		// 캐시별 설정 추가
-		configMap.put("curriculums", defaultCacheConfig.entryTtl(CachingTTL.CURRICULUM));
-		configMap.put("courses", defaultCacheConfig.entryTtl(CachingTTL.COURSE_LIST));
+		// 캐시별 설정 추가 (유효 시간, 값 직렬화 방식)
+		configMap.put("curriculums", withCodec(defaultCacheConfig.entryTtl(CachingTTL.CURRICULUM),
+				CacheCodec.SMILE_DEFLATE, jsonSerializer));
+		// 갱신 정책이 있는 캐시는 유효 시간이 지난 값을 보관 기간 동안 더 저장
+		configMap.put("courses", withCodec(defaultCacheConfig.entryTtl(CachingTTL.COURSE_LIST_POLICY.getStorageTtl()),
+				CacheCodec.SMILE_DEFLATE, jsonSerializer));
 
 		return configMap;
 	}
 
 	/**
-	 * Redis 캐시 매니저 빈 설정
+	 * 캐시별 갱신 정책을 생성하는 메서드
+	 * 적재 비용이 큰 캐시에 적용 (@Cacheable(sync = true)로 조회해야 적재 중복 방지/백그라운드 갱신이 동작)
+	 */
+	private Map<String, CacheRefreshPolicy> createRefreshPolicies() {
+		Map<String, CacheRefreshPolicy> policyMap = new HashMap<>();
+
+		// 전체 강의 목록: 강의/수강생 전체 집계 쿼리
+		policyMap.put("courses", CachingTTL.COURSE_LIST_POLICY);
+
+		return policyMap;
+	}
+
+	/**
+	 * 캐시 값 직렬화 방식 적용
+	 */
+	private RedisCacheConfiguration withCodec(RedisCacheConfiguration cacheConfig, CacheCodec codec,
+			GenericJackson2JsonRedisSerializer jsonSerializer) {
+		return cacheConfig.serializeValuesWith(
+				RedisSerializationContext.SerializationPair.fromSerializer(codec.createSerializer(jsonSerializer))
+		);
+	}
+
+	/**
+	 * 캐시 매니저 빈 설정
+	 * Redis 캐시 앞단에 로컬 메모리 캐시를 두어 자주 읽는 캐시를 Redis 왕복 없이 반환
+	 * 로컬 캐시는 압축 없는 JSON으로 보관하여 조회마다 새 객체로 역직렬화
 	 */
 	@Bean
-	public RedisCacheManager cacheManager(
+	public CacheManager cacheManager(
 			RedisConnectionFactory connectionFactory,
-			RedisCacheConfiguration defaultCacheConfig) {
-
-		return RedisCacheManager.builder(connectionFactory)
+			RedisCacheConfiguration defaultCacheConfig,
+			GenericJackson2JsonRedisSerializer jsonSerializer,
+			StringRedisTemplate stringRedisTemplate,
+			RedisMessageListenerContainer redisMessageListenerContainer,
+			AsyncTaskExecutor asyncTaskExecutor) {
+
+		// 트랜잭션 처리는 NearCacheManager에서 로컬/Redis 캐시를 함께 감싸서 수행
+		RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
 				.cacheDefaults(defaultCacheConfig)
-				.withInitialCacheConfigurations(createCacheConfigurations(defaultCacheConfig))
-				.transactionAware()
+				.withInitialCacheConfigurations(createCacheConfigurations(defaultCacheConfig, jsonSerializer))
 				.build();
+		redisCacheManager.afterPropertiesSet();
+
+		return new NearCacheManager(redisCacheManager, stringRedisTemplate, redisMessageListenerContainer,
+				CachingTTL.NEAR_CACHE_MAX_SIZE, CachingTTL.NEAR_CACHE, createRefreshPolicies(), asyncTaskExecutor,
+				jsonSerializer);
 	}
 
 	/**
@@ -164,6 +220,14 @@ public class RedisConfig {
 
 		public static final Duration COURSE_LIST = Duration.ofHours(3); // 강의 목록 캐시
 
+		// 강의 목록 갱신 정책 (만료 후 10분간 이전 값 반환, 적재 락 대기 최대 5초)
+		public static final CacheRefreshPolicy COURSE_LIST_POLICY = CacheRefreshPolicy.of(
+				COURSE_LIST, Duration.ofMinutes(10), 1.0, Duration.ofSeconds(5));
+
+		public static final Duration NEAR_CACHE = Duration.ofMinutes(1); // 로컬 캐시 유효 시간
+
+		public static final int NEAR_CACHE_MAX_SIZE = 1000; // 캐시별 로컬 캐시 최대 항목 수
+
 	}
 
 }
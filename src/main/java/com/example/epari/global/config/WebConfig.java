@@ -0,0 +1,45 @@
+package com.example.epari.global.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.epari.global.auth.resolver.CurrentPrincipalArgumentResolver;
+
+/**
+ * Spring MVC 설정 클래스
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+	// 비동기 응답 제한 시간 (느린 연결에서도 대용량 첨부파일 다운로드가 끝날 수 있도록 함)
+	private static final Duration ASYNC_REQUEST_TIMEOUT = Duration.ofMinutes(30);
+
+	private final CurrentPrincipalArgumentResolver currentPrincipalArgumentResolver;
+
+	private final AsyncTaskExecutor mvcAsyncTaskExecutor;
+
+	public WebConfig(CurrentPrincipalArgumentResolver currentPrincipalArgumentResolver,
+			@Qualifier("mvcAsyncTaskExecutor") AsyncTaskExecutor mvcAsyncTaskExecutor) {
+		this.currentPrincipalArgumentResolver = currentPrincipalArgumentResolver;
+		this.mvcAsyncTaskExecutor = mvcAsyncTaskExecutor;
+	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(currentPrincipalArgumentResolver);
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(mvcAsyncTaskExecutor);
+		configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT.toMillis());
+	}
+
+}
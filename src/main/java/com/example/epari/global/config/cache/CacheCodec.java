@@ -0,0 +1,32 @@
+package com.example.epari.global.config.cache;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시 값 직렬화 방식
+ * 캐시 이름별로 선택하여 RedisCacheConfiguration에 적용
+ */
+public enum CacheCodec {
+
+	// 기존 JSON 직렬화 (디버깅 시 값 확인이 쉬움)
+	JSON,
+
+	// Smile 바이너리 직렬화
+	SMILE,
+
+	// Smile 바이너리 직렬화 + 기준 크기 이상 압축
+	SMILE_DEFLATE;
+
+	// 압축 기준 크기 (작은 값은 압축 비용 대비 이득이 적음)
+	private static final int COMPRESSION_THRESHOLD = 1024;
+
+	public RedisSerializer<Object> createSerializer(GenericJackson2JsonRedisSerializer jsonSerializer) {
+		return switch (this) {
+			case JSON -> jsonSerializer;
+			case SMILE -> new CompressingRedisSerializer(new SmileRedisSerializer(), 0);
+			case SMILE_DEFLATE -> new CompressingRedisSerializer(new SmileRedisSerializer(), COMPRESSION_THRESHOLD);
+		};
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.epari.global.config.cache;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * 캐시 갱신 정책
+ * 만료 전 확률적 조기 갱신, 만료 후 이전 값 반환(stale-while-revalidate), 적재 락 대기 시간을 캐시별로 지정
+ */
+@Getter
+public class CacheRefreshPolicy {
+
+	// 값 유효 시간 (이 시간이 지나면 갱신 대상)
+	private final Duration ttl;
+
+	// 유효 시간이 지난 뒤에도 갱신 중 이전 값을 반환할 수 있는 시간
+	private final Duration staleTtl;
+
+	// 조기 갱신 가중치 (0이면 조기 갱신하지 않음, 클수록 일찍 갱신)
+	private final double earlyRefreshBeta;
+
+	// 다른 요청/서버가 적재 중일 때 결과를 기다리는 최대 시간
+	private final Duration lockTimeout;
+
+	private CacheRefreshPolicy(Duration ttl, Duration staleTtl, double earlyRefreshBeta, Duration lockTimeout) {
+		this.ttl = ttl;
+		this.staleTtl = staleTtl;
+		this.earlyRefreshBeta = earlyRefreshBeta;
+		this.lockTimeout = lockTimeout;
+	}
+
+	public static CacheRefreshPolicy of(Duration ttl, Duration staleTtl, double earlyRefreshBeta,
+			Duration lockTimeout) {
+		return new CacheRefreshPolicy(ttl, staleTtl, earlyRefreshBeta, lockTimeout);
+	}
+
+	// Redis에 실제로 보관하는 시간 (유효 시간 + 이전 값 반환 시간)
+	public Duration getStorageTtl() {
+		return ttl.plus(staleTtl);
+	}
+
+}
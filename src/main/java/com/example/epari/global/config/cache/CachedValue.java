@@ -0,0 +1,32 @@
+package com.example.epari.global.config.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 갱신 시점 판단을 위해 유효 기한과 적재 소요 시간을 함께 저장하는 캐시 값
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)  // 캐시 값 역직렬화용
+public class CachedValue {
+
+	private final Object value;
+
+	// 유효 기한 (epoch millis)
+	private final long expiresAt;
+
+	// 값을 적재하는 데 걸린 시간 (millis, 조기 갱신 확률 계산에 사용)
+	private final long loadMillis;
+
+	private CachedValue(Object value, long expiresAt, long loadMillis) {
+		this.value = value;
+		this.expiresAt = expiresAt;
+		this.loadMillis = loadMillis;
+	}
+
+	public static CachedValue of(Object value, long expiresAt, long loadMillis) {
+		return new CachedValue(value, expiresAt, loadMillis);
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.example.epari.global.config.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값 직렬화 결과에 형식 헤더를 붙이고, 기준 크기 이상이면 압축하는 직렬화 도구
+ * 헤더가 없는 값(코덱 변경 전 저장된 값)은 캐시 미스로 처리하여 다시 적재되도록 함
+ */
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+	private static final byte RAW = 0x01;
+
+	private static final byte DEFLATED = 0x02;
+
+	private final RedisSerializer<Object> delegate;
+
+	// 압축 기준 크기 (바이트, 0 이하면 압축하지 않음)
+	private final int compressionThreshold;
+
+	public CompressingRedisSerializer(RedisSerializer<Object> delegate, int compressionThreshold) {
+		this.delegate = delegate;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		byte[] payload = delegate.serialize(value);
+		if (payload == null) {
+			return null;
+		}
+
+		if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+			byte[] compressed = deflate(payload);
+			// 압축 효과가 없으면 원본 저장
+			if (compressed.length < payload.length) {
+				return withHeader(DEFLATED, compressed);
+			}
+		}
+		return withHeader(RAW, payload);
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		byte[] payload = Arrays.copyOfRange(bytes, 1, bytes.length);
+		return switch (bytes[0]) {
+			case RAW -> delegate.deserialize(payload);
+			case DEFLATED -> delegate.deserialize(inflate(payload));
+			default -> null;
+		};
+	}
+
+	private static byte[] withHeader(byte header, byte[] payload) {
+		byte[] result = new byte[payload.length + 1];
+		result[0] = header;
+		System.arraycopy(payload, 0, result, 1, payload.length);
+		return result;
+	}
+
+	private static byte[] deflate(byte[] input) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+			ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2 + 16);
+			byte[] buffer = new byte[4096];
+			while (!deflater.finished()) {
+				output.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return output.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] input) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(input);
+			ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 3);
+			byte[] buffer = new byte[4096];
+			while (!inflater.finished()) {
+				int count = inflater.inflate(buffer);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new SerializationException("Truncated compressed cache value");
+				}
+				output.write(buffer, 0, count);
+			}
+			return output.toByteArray();
+		} catch (DataFormatException e) {
+			throw new SerializationException("Could not inflate cache value: " + e.getMessage(), e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
@@ -0,0 +1,220 @@
+package com.example.epari.global.config.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 메모리 캐시를 앞단에 둔 2단계 캐시
+ * 조회는 로컬 → Redis 순으로 수행하고, 변경/삭제는 Redis에 반영한 뒤 모든 서버의 로컬 캐시를 무효화
+ * 로컬에는 직렬화된 값을 보관하고 조회마다 새 객체로 역직렬화하여, 반환된 값을 호출한 쪽에서 변경해도 다른 요청에 영향이 없도록 함
+ */
+@Slf4j
+public class NearCache implements Cache {
+
+	private final Cache delegate;
+
+	private final NearCacheManager cacheManager;
+
+	private final long ttlMillis;
+
+	private final RedisSerializer<Object> serializer;
+
+	// 접근 순서 기준 LRU (최대 크기 초과 시 가장 오래 사용하지 않은 항목 제거)
+	private final Map<String, LocalEntry> localEntries;
+
+	NearCache(Cache delegate, NearCacheManager cacheManager, int maxSize, Duration ttl,
+			RedisSerializer<Object> serializer) {
+		this.delegate = delegate;
+		this.cacheManager = cacheManager;
+		this.ttlMillis = ttl.toMillis();
+		this.serializer = serializer;
+		this.localEntries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return delegate.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = toLocalKey(key);
+		ValueWrapper local = getLocal(localKey);
+		if (local != null) {
+			return local;
+		}
+
+		ValueWrapper remote = delegate.get(key);
+		if (remote != null) {
+			putLocal(localKey, remote.get());
+		}
+		return remote;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper == null) {
+			return null;
+		}
+
+		Object value = wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T)value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		String localKey = toLocalKey(key);
+		ValueWrapper local = getLocal(localKey);
+		if (local != null) {
+			return (T)local.get();
+		}
+
+		T value = delegate.get(key, valueLoader);
+		putLocal(localKey, value);
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		delegate.put(key, value);
+		invalidate(key);
+	}
+
+	@Override
+	public void evict(Object key) {
+		delegate.evict(key);
+		invalidate(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean evicted = delegate.evictIfPresent(key);
+		invalidate(key);
+		return evicted;
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+		clearLocal();
+		cacheManager.publishInvalidation(getName(), null);
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean invalidated = delegate.invalidate();
+		clearLocal();
+		cacheManager.publishInvalidation(getName(), null);
+		return invalidated;
+	}
+
+	// 다른 서버의 변경으로 인한 로컬 항목 제거
+	void evictLocal(String localKey) {
+		synchronized (localEntries) {
+			localEntries.remove(localKey);
+		}
+	}
+
+	// 로컬 항목 전체 제거
+	void clearLocal() {
+		synchronized (localEntries) {
+			localEntries.clear();
+		}
+	}
+
+	// 로컬 제거 후 다른 서버에 무효화 전파 (다른 서버는 다음 조회 시 Redis에서 새 값을 읽음)
+	private void invalidate(Object key) {
+		String localKey = toLocalKey(key);
+		evictLocal(localKey);
+		cacheManager.publishInvalidation(getName(), localKey);
+	}
+
+	private ValueWrapper getLocal(String localKey) {
+		byte[] bytes;
+		synchronized (localEntries) {
+			LocalEntry entry = localEntries.get(localKey);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt <= System.currentTimeMillis()) {
+				localEntries.remove(localKey);
+				return null;
+			}
+			bytes = entry.value;
+		}
+
+		try {
+			return new SimpleValueWrapper(serializer.deserialize(bytes));
+		} catch (SerializationException e) {
+			log.warn("Failed to read near cache entry - cache: {}, key: {}", getName(), localKey, e);
+			evictLocal(localKey);
+			return null;
+		}
+	}
+
+	private void putLocal(String localKey, Object value) {
+		if (value == null) {
+			return;
+		}
+
+		byte[] bytes;
+		try {
+			bytes = serializer.serialize(value);
+		} catch (SerializationException e) {
+			// 직렬화할 수 없는 값은 로컬에 두지 않고 Redis에서만 조회
+			log.warn("Failed to write near cache entry - cache: {}, key: {}", getName(), localKey, e);
+			return;
+		}
+		synchronized (localEntries) {
+			localEntries.put(localKey, new LocalEntry(bytes, System.currentTimeMillis() + ttlMillis));
+		}
+	}
+
+	// Redis 캐시와 같은 방식으로 키를 문자열로 변환
+	private String toLocalKey(Object key) {
+		return String.valueOf(key);
+	}
+
+	/*
+	 * 로컬 캐시 항목
+	 */
+	private static class LocalEntry {
+
+		// 직렬화된 값
+		private final byte[] value;
+
+		private final long expiresAt;
+
+		LocalEntry(byte[] value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
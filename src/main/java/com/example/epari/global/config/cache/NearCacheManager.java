@@ -0,0 +1,121 @@
+package com.example.epari.global.config.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 캐시 매니저 앞단에 로컬 메모리 캐시를 두는 캐시 매니저
+ * 캐시 변경/삭제 시 Redis Pub/Sub으로 무효화 메시지를 보내 모든 서버의 로컬 캐시를 비움
+ * 변경/삭제는 트랜잭션 커밋 후 반영되어, 커밋 전 값이 로컬 캐시에 다시 적재되지 않도록 함
+ * 갱신 정책이 지정된 캐시는 Redis 캐시를 RefreshingCache로 감싸 중복 적재와 만료 시점 적재 집중을 방지
+ */
+@Slf4j
+public class NearCacheManager implements CacheManager, MessageListener {
+
+	public static final String CHANNEL = "epari::near-cache-invalidation";
+
+	// 무효화 메시지 구분자 ("{캐시 이름}::{키}", 키가 없으면 캐시 전체)
+	private static final String SEPARATOR = "::";
+
+	private final CacheManager redisCacheManager;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final int maxSize;
+
+	private final Duration ttl;
+
+	private final Map<String, CacheRefreshPolicy> refreshPolicies;
+
+	private final Executor refreshExecutor;
+
+	// 로컬 캐시 값 직렬화 (조회마다 새 객체를 반환하기 위해 사용)
+	private final RedisSerializer<Object> localSerializer;
+
+	private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+	private final Map<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+	public NearCacheManager(CacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+			RedisMessageListenerContainer listenerContainer, int maxSize, Duration ttl,
+			Map<String, CacheRefreshPolicy> refreshPolicies, Executor refreshExecutor,
+			RedisSerializer<Object> localSerializer) {
+		this.redisCacheManager = redisCacheManager;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+		this.refreshPolicies = refreshPolicies;
+		this.refreshExecutor = refreshExecutor;
+		this.localSerializer = localSerializer;
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		return decoratedCaches.computeIfAbsent(name, cacheName -> {
+			Cache redisCache = redisCacheManager.getCache(cacheName);
+			if (redisCache == null) {
+				return null;
+			}
+			CacheRefreshPolicy refreshPolicy = refreshPolicies.get(cacheName);
+			if (refreshPolicy != null) {
+				redisCache = new RefreshingCache(redisCache, refreshPolicy, this, stringRedisTemplate, refreshExecutor);
+			}
+			NearCache nearCache = new NearCache(redisCache, this, maxSize, ttl, localSerializer);
+			nearCaches.put(cacheName, nearCache);
+			return new TransactionAwareCacheDecorator(nearCache);
+		});
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return redisCacheManager.getCacheNames();
+	}
+
+	// 다른 서버에 로컬 캐시 무효화 전파
+	void publishInvalidation(String cacheName, String key) {
+		try {
+			stringRedisTemplate.convertAndSend(CHANNEL, key == null ? cacheName : cacheName + SEPARATOR + key);
+		} catch (DataAccessException e) {
+			// 전파에 실패해도 다른 서버의 로컬 캐시는 TTL 경과 후 만료됨
+			log.warn("Failed to publish near cache invalidation - cache: {}, key: {}", cacheName, key, e);
+		}
+	}
+
+	// 무효화 메시지 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separatorIndex = body.indexOf(SEPARATOR);
+		String cacheName = separatorIndex < 0 ? body : body.substring(0, separatorIndex);
+
+		NearCache nearCache = nearCaches.get(cacheName);
+		if (nearCache == null) {
+			return;
+		}
+
+		if (separatorIndex < 0) {
+			nearCache.clearLocal();
+		} else {
+			nearCache.evictLocal(body.substring(separatorIndex + SEPARATOR.length()));
+		}
+	}
+
+}
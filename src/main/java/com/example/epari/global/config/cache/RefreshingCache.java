@@ -0,0 +1,341 @@
+package com.example.epari.global.config.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 스탬피드 방지 캐시
+ * - 캐시 미스 시 같은 키의 적재는 서버 내(로컬 락) / 서버 간(Redis 락) 한 번만 수행하고 나머지 요청은 결과를 기다림
+ * - 유효 기한이 가까워지면 적재 소요 시간에 비례한 확률로 미리 갱신
+ * - 유효 기한이 지난 값은 보관 기간 동안 그대로 반환하고 백그라운드에서 갱신
+ * 적재 함수를 전달하는 조회(@Cacheable(sync = true))에서만 갱신이 동작하며, 일반 조회는 유효 기한이 지난 값을 미스로 처리
+ */
+@Slf4j
+public class RefreshingCache implements Cache {
+
+	private static final String LOCK_PREFIX = "epari::cache-lock::";
+
+	// 다른 서버의 적재 결과 확인 주기
+	private static final long LOCK_POLL_MILLIS = 50;
+
+	// 락 소유자가 자신일 때만 해제
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	private final Cache delegate;
+
+	private final CacheRefreshPolicy policy;
+
+	private final NearCacheManager cacheManager;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final Executor refreshExecutor;
+
+	// 키별 진행 중인 적재 (같은 키를 동시에 조회한 요청은 하나의 적재 결과를 공유)
+	private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+	// 백그라운드 갱신 중인 키
+	private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+	RefreshingCache(Cache delegate, CacheRefreshPolicy policy, NearCacheManager cacheManager,
+			StringRedisTemplate stringRedisTemplate, Executor refreshExecutor) {
+		this.delegate = delegate;
+		this.policy = policy;
+		this.cacheManager = cacheManager;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return delegate.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		CachedValue cached = getCachedValue(key);
+		if (cached == null || cached.getExpiresAt() <= System.currentTimeMillis()) {
+			return null;
+		}
+		return new SimpleValueWrapper(cached.getValue());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper == null) {
+			return null;
+		}
+
+		Object value = wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T)value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		CachedValue cached = getCachedValue(key);
+		if (cached == null) {
+			return (T)loadOnce(key, valueLoader);
+		}
+
+		// 유효 기한이 지났거나 조기 갱신 대상이면 이전 값을 반환하고 백그라운드에서 갱신
+		if (isRefreshDue(cached)) {
+			refreshInBackground(key, valueLoader);
+		}
+		return (T)cached.getValue();
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		if (value == null) {
+			delegate.evict(key);
+			return;
+		}
+		delegate.put(key, CachedValue.of(value, System.currentTimeMillis() + policy.getTtl().toMillis(), 0));
+	}
+
+	@Override
+	public void evict(Object key) {
+		delegate.evict(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		return delegate.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		return delegate.invalidate();
+	}
+
+	// 서버 내 같은 키 적재를 하나로 합침
+	private Object loadOnce(Object key, Callable<?> valueLoader) {
+		String cacheKey = toCacheKey(key);
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(cacheKey, future);
+		if (inFlight != null) {
+			return await(inFlight);
+		}
+
+		try {
+			Object value = loadAcrossServers(key, cacheKey, valueLoader);
+			future.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			// 기다리는 요청에도 같은 예외 전달
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightLoads.remove(cacheKey, future);
+		}
+	}
+
+	// 서버 간 같은 키 적재를 하나로 합침 (락을 얻지 못하면 다른 서버의 적재 결과를 기다림)
+	private Object loadAcrossServers(Object key, String cacheKey, Callable<?> valueLoader) {
+		String token = UUID.randomUUID().toString();
+		if (!tryLock(cacheKey, token)) {
+			CachedValue loaded = waitForValue(key);
+			if (loaded != null) {
+				return loaded.getValue();
+			}
+			// 대기 시간 내 적재되지 않으면 직접 적재
+			return load(key, valueLoader);
+		}
+
+		try {
+			// 락을 얻기 전에 다른 서버가 적재를 마쳤을 수 있음
+			CachedValue cached = getCachedValue(key);
+			if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+				return cached.getValue();
+			}
+			return load(key, valueLoader);
+		} finally {
+			unlock(cacheKey, token);
+		}
+	}
+
+	private void refreshInBackground(Object key, Callable<?> valueLoader) {
+		String cacheKey = toCacheKey(key);
+		if (!refreshingKeys.add(cacheKey)) {
+			return;
+		}
+
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					refresh(key, cacheKey, valueLoader);
+				} finally {
+					refreshingKeys.remove(cacheKey);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// 갱신하지 못해도 이전 값은 보관 기간 동안 유지되고, 다음 조회에서 다시 갱신 시도
+			refreshingKeys.remove(cacheKey);
+			log.debug("Cache refresh rejected - cache: {}, key: {}", getName(), cacheKey);
+		}
+	}
+
+	private void refresh(Object key, String cacheKey, Callable<?> valueLoader) {
+		String token = UUID.randomUUID().toString();
+		if (!tryLock(cacheKey, token)) {
+			// 다른 서버가 갱신 중
+			return;
+		}
+
+		try {
+			load(key, valueLoader);
+			cacheManager.publishInvalidation(getName(), cacheKey);
+		} catch (RuntimeException e) {
+			log.warn("Failed to refresh cache - cache: {}, key: {}", getName(), cacheKey, e);
+		} finally {
+			unlock(cacheKey, token);
+		}
+	}
+
+	// 값을 적재하여 유효 기한, 적재 소요 시간과 함께 저장
+	private Object load(Object key, Callable<?> valueLoader) {
+		long startedAt = System.currentTimeMillis();
+		Object value;
+		try {
+			value = valueLoader.call();
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+
+		long now = System.currentTimeMillis();
+		if (value != null) {
+			delegate.put(key, CachedValue.of(value, now + policy.getTtl().toMillis(), now - startedAt));
+		}
+		return value;
+	}
+
+	/*
+	 * 확률적 조기 갱신 (XFetch)
+	 * now - loadMillis * beta * ln(random) >= expiresAt 이면 갱신
+	 * 적재가 오래 걸리는 값일수록, 유효 기한이 가까울수록 갱신 확률이 높아져 만료 시점에 적재가 몰리지 않음
+	 */
+	private boolean isRefreshDue(CachedValue cached) {
+		long now = System.currentTimeMillis();
+		if (cached.getExpiresAt() <= now) {
+			return true;
+		}
+		if (policy.getEarlyRefreshBeta() <= 0 || cached.getLoadMillis() <= 0) {
+			return false;
+		}
+
+		double random = 1.0 - ThreadLocalRandom.current().nextDouble();  // (0, 1]
+		double gap = -cached.getLoadMillis() * policy.getEarlyRefreshBeta() * Math.log(random);
+		return now + gap >= cached.getExpiresAt();
+	}
+
+	private CachedValue getCachedValue(Object key) {
+		ValueWrapper wrapper = delegate.get(key);
+		if (wrapper == null || wrapper.get() == null) {
+			return null;
+		}
+
+		Object value = wrapper.get();
+		if (value instanceof CachedValue cachedValue) {
+			return cachedValue;
+		}
+		// 정책 적용 전 저장된 값은 유효 기한 정보가 없으므로 미스로 처리하여 다시 적재
+		return null;
+	}
+
+	private CachedValue waitForValue(Object key) {
+		long deadline = System.currentTimeMillis() + policy.getLockTimeout().toMillis();
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(LOCK_POLL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+
+			CachedValue cached = getCachedValue(key);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		return null;
+	}
+
+	private boolean tryLock(String cacheKey, String token) {
+		try {
+			// 락을 가진 서버가 비정상 종료되어도 대기 시간이 지나면 자동 해제
+			Boolean acquired = stringRedisTemplate.opsForValue()
+					.setIfAbsent(lockKey(cacheKey), token, policy.getLockTimeout());
+			return Boolean.TRUE.equals(acquired);
+		} catch (DataAccessException e) {
+			// Redis 장애 시 서버 내 중복 적재 방지만 적용
+			log.warn("Failed to acquire cache lock - cache: {}, key: {}", getName(), cacheKey, e);
+			return true;
+		}
+	}
+
+	private void unlock(String cacheKey, String token) {
+		try {
+			stringRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(lockKey(cacheKey)), token);
+		} catch (DataAccessException e) {
+			// 해제하지 못한 락은 대기 시간이 지나면 만료됨
+			log.warn("Failed to release cache lock - cache: {}, key: {}", getName(), cacheKey, e);
+		}
+	}
+
+	private Object await(CompletableFuture<Object> inFlight) {
+		try {
+			return inFlight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private String lockKey(String cacheKey) {
+		return LOCK_PREFIX + getName() + "::" + cacheKey;
+	}
+
+	// Redis 캐시와 같은 방식으로 키를 문자열로 변환
+	private String toCacheKey(Object key) {
+		return String.valueOf(key);
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.example.epari.global.config.cache;
+
+import java.io.IOException;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Smile(바이너리 JSON) 형식 캐시 값 직렬화 도구
+ * 속성 이름/반복 문자열을 참조로 저장하고 날짜를 숫자로 기록하여 JSON보다 작은 크기로 직렬화
+ */
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+
+	private final ObjectMapper mapper;
+
+	public SmileRedisSerializer() {
+		// 캐시 값 복원을 위한 타입 정보는 애플리케이션/표준 타입에 한해 허용
+		BasicPolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+				.allowIfSubType("com.example.epari.")
+				.allowIfSubType("java.util.")
+				.allowIfSubType("java.time.")
+				.build();
+
+		this.mapper = SmileMapper.builder()
+				.addModule(new JavaTimeModule())
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY)
+				.build();
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (value == null) {
+			return new byte[0];
+		}
+		try {
+			return mapper.writeValueAsBytes(value);
+		} catch (IOException e) {
+			throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		try {
+			return mapper.readValue(bytes, Object.class);
+		} catch (IOException e) {
+			throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+		}
+	}
+
+}
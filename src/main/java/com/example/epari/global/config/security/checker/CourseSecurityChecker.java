@@ -2,13 +2,10 @@ package com.example.epari.global.config.security.checker;
 
 import org.springframework.stereotype.Component;
 
-import com.example.epari.course.repository.CourseRepository;
-import com.example.epari.global.exception.BusinessBaseException;
+import com.example.epari.course.service.CourseMembershipCache;
+import com.example.epari.global.common.enums.UserRole;
 import com.example.epari.global.exception.ErrorCode;
-import com.example.epari.user.domain.Instructor;
-import com.example.epari.user.domain.Student;
-import com.example.epari.user.repository.InstructorRepository;
-import com.example.epari.user.repository.StudentRepository;
+import com.example.epari.global.validator.CourseAccessValidator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,22 +13,19 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CourseSecurityChecker {
 
-	private final CourseRepository courseRepository;
+	private final CourseMembershipCache courseMembershipCache;
 
-	private final InstructorRepository instructorRepository;
-
-	private final StudentRepository studentRepository;
+	private final CourseAccessValidator courseAccessValidator;
 
 	public boolean checkInstructorAccess(Long courseId, String email) {
-		Instructor instructor = instructorRepository.findByEmail(email)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.INSTRUCTOR_NOT_FOUND));
-		return courseRepository.existsByCourseIdAndInstructorId(courseId, instructor.getId());
+		Long instructorId = courseAccessValidator.resolveUserId(email, UserRole.INSTRUCTOR,
+				ErrorCode.INSTRUCTOR_NOT_FOUND);
+		return courseMembershipCache.isInstructor(courseId, instructorId);
 	}
 
 	public boolean checkStudentAccess(Long courseId, String email) {
-		Student student = studentRepository.findByEmail(email)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.STUDENT_NOT_FOUND));
-		return courseRepository.existsByCourseIdAndStudentId(courseId, student.getId());
+		Long studentId = courseAccessValidator.resolveUserId(email, UserRole.STUDENT, ErrorCode.STUDENT_NOT_FOUND);
+		return courseMembershipCache.isStudent(courseId, studentId);
 	}
 
 }
@@ -0,0 +1,23 @@
+package com.example.epari.global.event;
+
+import lombok.Getter;
+
+/**
+ * 강의 구성원(담당 강사, 수강생) 변경 이벤트
+ * 커밋 후 강의 권한 캐시를 무효화하는 데 사용
+ */
+@Getter
+public class CourseMembershipChangedEvent {
+
+	// 변경된 강의 ID
+	private final Long courseId;
+
+	private CourseMembershipChangedEvent(Long courseId) {
+		this.courseId = courseId;
+	}
+
+	public static CourseMembershipChangedEvent of(Long courseId) {
+		return new CourseMembershipChangedEvent(courseId);
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.epari.global.event;
+
+import lombok.Getter;
+
+/**
+ * 학생 대시보드 구성 데이터 변경 이벤트
+ * 커밋 후 변경 범위(강의/학생/전체)의 대시보드 버전을 올려 캐시된 대시보드를 무효화하는 데 사용
+ */
+@Getter
+public class DashboardChangedEvent {
+
+	public enum Scope {
+		// 강의 공지사항/과제/자료/시험 변경
+		COURSE,
+		// 학생 본인의 시험 응시/제출
+		STUDENT,
+		// 수강 구성 변경 등 대상 학생을 특정할 수 없는 변경
+		ALL
+	}
+
+	private final Scope scope;
+
+	// 변경된 강의 ID 또는 학생 ID (전체 변경이면 null)
+	private final Long targetId;
+
+	private DashboardChangedEvent(Scope scope, Long targetId) {
+		this.scope = scope;
+		this.targetId = targetId;
+	}
+
+	public static DashboardChangedEvent course(Long courseId) {
+		return new DashboardChangedEvent(Scope.COURSE, courseId);
+	}
+
+	public static DashboardChangedEvent student(Long studentId) {
+		return new DashboardChangedEvent(Scope.STUDENT, studentId);
+	}
+
+	public static DashboardChangedEvent all() {
+		return new DashboardChangedEvent(Scope.ALL, null);
+	}
+
+}
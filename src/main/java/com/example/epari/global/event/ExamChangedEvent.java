@@ -0,0 +1,31 @@
+package com.example.epari.global.event;
+
+import lombok.Getter;
+
+/**
+ * 시험 정보(일정, 상태, 문제) 변경 이벤트
+ * 커밋 후 시험 스냅샷 캐시를 무효화하는 데 사용
+ */
+@Getter
+public class ExamChangedEvent {
+
+	// 변경된 시험 ID
+	private final Long examId;
+
+	// 무효화 후 스냅샷을 다시 적재할지 여부 (시험 시작 시 응시 요청이 몰리기 전에 미리 적재)
+	private final boolean preload;
+
+	private ExamChangedEvent(Long examId, boolean preload) {
+		this.examId = examId;
+		this.preload = preload;
+	}
+
+	public static ExamChangedEvent of(Long examId) {
+		return new ExamChangedEvent(examId, false);
+	}
+
+	public static ExamChangedEvent started(Long examId) {
+		return new ExamChangedEvent(examId, true);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.example.epari.global.event;
+
+import java.time.LocalDateTime;
+
+import com.example.epari.exam.domain.Exam;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시험 일정 변경 이벤트 클래스
+ * 시험 생성/수정/삭제 시 발행되어 시험 스케줄러의 예약 작업을 갱신
+ */
+@Getter
+@Builder
+public class ExamScheduleChangedEvent {
+
+	private Long examId;
+
+	private LocalDateTime startDateTime;
+
+	private LocalDateTime endDateTime;
+
+	private boolean deleted;
+
+	public static ExamScheduleChangedEvent from(Exam exam) {
+		return ExamScheduleChangedEvent.builder()
+				.examId(exam.getId())
+				.startDateTime(exam.getExamDateTime())
+				.endDateTime(exam.getEndDateTime())
+				.deleted(false)
+				.build();
+	}
+
+	public static ExamScheduleChangedEvent deleted(Long examId) {
+		return ExamScheduleChangedEvent.builder()
+				.examId(examId)
+				.deleted(true)
+				.build();
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.example.epari.global.event;
+
+import java.time.LocalDateTime;
+
+import com.example.epari.exam.domain.Exam;
+import com.example.epari.global.common.enums.ExamStatus;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시험 상태 실시간 알림 이벤트
+ * 커밋 후 Redis 채널로 전파되어 각 서버에 연결된 구독자에게 전송됨
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExamStatusPushEvent {
+
+	private Type type;
+
+	private Long courseId;
+
+	private Long examId;
+
+	private ExamStatus status;
+
+	private LocalDateTime endDateTime;
+
+	private Long remainingSeconds;
+
+	private Integer affectedCount;
+
+	private LocalDateTime occurredAt;
+
+	public static ExamStatusPushEvent of(Type type, Exam exam, Integer affectedCount) {
+		return ExamStatusPushEvent.builder()
+				.type(type)
+				.courseId(exam.getCourse().getId())
+				.examId(exam.getId())
+				.status(exam.getStatus())
+				.endDateTime(exam.getEndDateTime())
+				.affectedCount(affectedCount)
+				.occurredAt(LocalDateTime.now())
+				.build();
+	}
+
+	public static ExamStatusPushEvent remainingTime(Exam exam, long remainingSeconds) {
+		return ExamStatusPushEvent.builder()
+				.type(Type.REMAINING_TIME)
+				.courseId(exam.getCourse().getId())
+				.examId(exam.getId())
+				.status(exam.getStatus())
+				.endDateTime(exam.getEndDateTime())
+				.remainingSeconds(remainingSeconds)
+				.occurredAt(LocalDateTime.now())
+				.build();
+	}
+
+	/**
+	 * 이벤트 종류 (SSE 이벤트 이름으로 사용)
+	 */
+	public enum Type {
+		EXAM_STARTED,
+		REMAINING_TIME,
+		FORCE_SUBMITTED,
+		EXAM_GRADED
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.example.epari.global.event;
+
+import lombok.Getter;
+
+/**
+ * 사용자 등록/삭제 이벤트
+ * 커밋 후 사용자 식별 정보 캐시를 무효화하는 데 사용
+ */
+@Getter
+public class UserChangedEvent {
+
+	// 변경된 사용자 이메일
+	private final String email;
+
+	private UserChangedEvent(String email) {
+		this.email = email;
+	}
+
+	public static UserChangedEvent of(String email) {
+		return new UserChangedEvent(email);
+	}
+
+}
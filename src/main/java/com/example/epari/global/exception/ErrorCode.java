@@ -124,7 +124,11 @@ public enum ErrorCode {
 	FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "FILE-005", "파일 크기가 제한을 초과했습니다."),
 	INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "FILE-006", "지원하지 않는 파일 형식입니다."),
 	FILE_EMPTY(HttpStatus.BAD_REQUEST, "FILE-007", "파일이 비어있습니다."),
-	INVALID_FILE_URL(HttpStatus.BAD_REQUEST, "FILE-008", "잘못된 파일 URL 형식입니다.");
+	INVALID_FILE_URL(HttpStatus.BAD_REQUEST, "FILE-008", "잘못된 파일 URL 형식입니다."),
+	UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "FILE-009", "업로드 세션을 찾을 수 없거나 만료되었습니다."),
+	UPLOADED_FILE_NOT_FOUND(HttpStatus.BAD_REQUEST, "FILE-010", "업로드된 파일을 찾을 수 없습니다."),
+	UPLOADED_FILE_MISMATCH(HttpStatus.BAD_REQUEST, "FILE-011", "업로드된 파일이 요청한 파일과 일치하지 않습니다."),
+	UPLOAD_SESSION_IN_PROGRESS(HttpStatus.CONFLICT, "FILE-012", "이미 완료 처리 중인 업로드 세션입니다.");
 
 	private final HttpStatus status;
 
@@ -6,6 +6,10 @@ import org.springframework.stereotype.Component;
 
 import com.example.epari.course.domain.Course;
 import com.example.epari.course.repository.CourseRepository;
+import com.example.epari.course.service.CourseMembershipCache;
+import com.example.epari.global.auth.dto.ResolvedPrincipal;
+import com.example.epari.global.auth.service.PrincipalResolver;
+import com.example.epari.global.common.enums.UserRole;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 import com.example.epari.global.exception.course.CourseAccessDeniedException;
@@ -29,30 +33,51 @@ public class CourseAccessValidator {
 
 	private final StudentRepository studentRepository;
 
+	private final PrincipalResolver principalResolver;
+
+	private final CourseMembershipCache courseMembershipCache;
+
 	// 강사의 강의 접근권한 검증
 	public void validateInstructorAccess(Long courseId, Long instructorId) {
-		if (!courseRepository.existsByCourseIdAndInstructorId(courseId, instructorId)) {
+		if (!courseMembershipCache.isInstructor(courseId, instructorId)) {
 			throw new CourseAccessDeniedException();
 		}
 	}
 
 	// 학생의 강의 접근권한 검증
 	public void validateStudentAccess(Long courseId, Long studentId) {
-		if (!courseRepository.existsByCourseIdAndStudentId(courseId, studentId)) {
+		if (!courseMembershipCache.isStudent(courseId, studentId)) {
 			throw new CourseAccessDeniedException();
 		}
 	}
 
 	// 강사 이메일 검증
+	// 이메일은 요청/공유 캐시로 ID로 변환하고, 엔티티는 ID로 조회하여 같은 요청 내 반복 호출은 영속성 컨텍스트에서 반환
 	public Instructor validateInstructorEmail(String email) {
-		return instructorRepository.findByEmail(email)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.INSTRUCTOR_NOT_FOUND));
+		Long instructorId = resolveUserId(email, UserRole.INSTRUCTOR, ErrorCode.INSTRUCTOR_NOT_FOUND);
+		return instructorRepository.findById(instructorId)
+				.orElseThrow(() -> {
+					principalResolver.evict(email);
+					return new BusinessBaseException(ErrorCode.INSTRUCTOR_NOT_FOUND);
+				});
 	}
 
 	// 학생 이메일 검증
 	public Student validateStudentEmail(String email) {
-		return studentRepository.findByEmail(email)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.STUDENT_NOT_FOUND));
+		Long studentId = resolveUserId(email, UserRole.STUDENT, ErrorCode.STUDENT_NOT_FOUND);
+		return studentRepository.findById(studentId)
+				.orElseThrow(() -> {
+					principalResolver.evict(email);
+					return new BusinessBaseException(ErrorCode.STUDENT_NOT_FOUND);
+				});
+	}
+
+	// 이메일로 특정 역할의 사용자 ID 조회
+	public Long resolveUserId(String email, UserRole role, ErrorCode notFoundErrorCode) {
+		return principalResolver.find(email)
+				.filter(principal -> principal.getRole() == role)
+				.map(ResolvedPrincipal::getUserId)
+				.orElseThrow(() -> new BusinessBaseException(notFoundErrorCode));
 	}
 
 }
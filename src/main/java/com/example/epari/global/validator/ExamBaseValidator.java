@@ -9,6 +9,7 @@ import com.example.epari.exam.domain.Exam;
 import com.example.epari.exam.domain.ExamResult;
 import com.example.epari.exam.repository.ExamRepository;
 import com.example.epari.exam.repository.ExamResultRepository;
+import com.example.epari.exam.service.ExamSnapshotCache;
 import com.example.epari.global.common.enums.ExamStatus;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
@@ -26,10 +27,11 @@ public class ExamBaseValidator {
 
 	private final ExamResultRepository examResultRepository;
 
+	private final ExamSnapshotCache examSnapshotCache;
+
 	// 해당 강의의 시험인지 검증
 	public void validateExamCourse(Long courseId, Long examId) {
-		Exam exam = validateExamExists(examId);
-		if (!exam.getCourse().getId().equals(courseId)) {
+		if (!examSnapshotCache.getVerifiedSnapshot(examId).getCourseId().equals(courseId)) {
 			throw new BusinessBaseException(ErrorCode.UNAUTHORIZED_EXAM_ACCESS);
 		}
 	}
@@ -50,7 +52,8 @@ public class ExamBaseValidator {
 
 	// 학생의 시험 접근 권한 검증
 	public void validateExamAccess(Long examId, Long studentId) {
-		Exam exam = validateExamExists(examId);
+		// 시험 존재 여부는 스냅샷으로 확인
+		examSnapshotCache.getSnapshot(examId);
 
 		Optional<ExamResult> existingResult = examResultRepository.findByExamIdAndStudentId(
 				examId,
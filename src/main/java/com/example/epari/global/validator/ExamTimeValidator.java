@@ -5,7 +5,8 @@ import java.time.LocalDateTime;
 import org.springframework.stereotype.Component;
 
 import com.example.epari.exam.domain.Exam;
-import com.example.epari.exam.repository.ExamRepository;
+import com.example.epari.exam.dto.common.ExamSnapshot;
+import com.example.epari.exam.service.ExamSnapshotCache;
 import com.example.epari.global.exception.BusinessBaseException;
 import com.example.epari.global.exception.ErrorCode;
 
@@ -18,12 +19,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ExamTimeValidator {
 
-	private final ExamRepository examRepository;
+	private final ExamSnapshotCache examSnapshotCache;
 
 	// 시험 기간이 유효한지 검증 (시작 전인지))
 	public void validateExamPeriod(Long examId) {
-		Exam exam = examRepository.findById(examId)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+		ExamSnapshot exam = examSnapshotCache.getVerifiedSnapshot(examId);
 
 		if (!exam.isBeforeExam()) {
 			throw new BusinessBaseException(ErrorCode.EXAM_ALREADY_STARTED);
@@ -32,8 +32,7 @@ public class ExamTimeValidator {
 
 	// 시험 응시 가능 시간인지 검증
 	public void validateExamTime(Long examId) {
-		Exam exam = examRepository.findById(examId)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+		ExamSnapshot exam = examSnapshotCache.getVerifiedSnapshot(examId);
 
 		if (!exam.isDuringExam()) {
 			throw new BusinessBaseException(ErrorCode.EXAM_NOT_IN_PROGRESS);
@@ -49,8 +48,7 @@ public class ExamTimeValidator {
 
 	// 시험 제출 가능 시간인지 검증 (종료 시간 이전인지)
 	public void validateSubmissionTime(Long examId) {
-		Exam exam = examRepository.findById(examId)
-				.orElseThrow(() -> new BusinessBaseException(ErrorCode.EXAM_NOT_FOUND));
+		ExamSnapshot exam = examSnapshotCache.getVerifiedSnapshot(examId);
 
 		if (LocalDateTime.now().isAfter(exam.getEndDateTime())) {
 			throw new BusinessBaseException(ErrorCode.EXAM_ALREADY_ENDED);
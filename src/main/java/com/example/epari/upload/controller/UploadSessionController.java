@@ -0,0 +1,46 @@
+package com.example.epari.upload.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.epari.global.annotation.CurrentPrincipal;
+import com.example.epari.global.auth.dto.ResolvedPrincipal;
+import com.example.epari.upload.dto.UploadCompleteResponseDto;
+import com.example.epari.upload.dto.UploadSessionRequestDto;
+import com.example.epari.upload.dto.UploadSessionResponseDto;
+import com.example.epari.upload.service.UploadSessionService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직접 업로드 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/uploads/sessions")
+public class UploadSessionController {
+
+	private final UploadSessionService uploadSessionService;
+
+	// 업로드 세션 생성 (S3 업로드용 Presigned PUT URL 발급)
+	@PostMapping
+	public ResponseEntity<UploadSessionResponseDto> createSession(
+			@CurrentPrincipal ResolvedPrincipal principal,
+			@Valid @RequestBody UploadSessionRequestDto requestDto) {
+		return ResponseEntity.ok(uploadSessionService.createSession(principal, requestDto));
+	}
+
+	// 업로드 완료 처리 (업로드된 파일 확인 후 첨부 파일로 등록)
+	@PostMapping("/{sessionId}/complete")
+	public ResponseEntity<UploadCompleteResponseDto> completeSession(
+			@CurrentPrincipal ResolvedPrincipal principal,
+			@PathVariable String sessionId) {
+		return ResponseEntity.ok(uploadSessionService.completeSession(principal, sessionId));
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.example.epari.upload.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 직접 업로드 세션
+ * 업로드 URL 발급 시 검증한 첨부 대상/파일 정보를 완료 처리 시까지 보관
+ */
+@Getter
+@Builder
+public class UploadSession {
+
+	private final String id;
+
+	private final Long userId;
+
+	private final UploadTarget target;
+
+	private final Long targetId;
+
+	private final String objectKey;
+
+	private final String originalFileName;
+
+	private final String contentType;
+
+	private final long fileSize;
+
+	// 완료되지 않은 업로드 파일의 지연 삭제 예약 ID (완료 시 취소)
+	private final Long deletionId;
+
+}
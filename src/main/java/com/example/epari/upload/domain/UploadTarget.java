@@ -0,0 +1,23 @@
+package com.example.epari.upload.domain;
+
+import lombok.Getter;
+
+/**
+ * 직접 업로드 파일을 첨부할 대상
+ */
+@Getter
+public enum UploadTarget {
+	SUBMISSION("과제 제출물", "submissions"),
+	COURSE_CONTENT("강의 자료", "course-content"),
+	NOTICE("공지사항", "notices/files");
+
+	private final String description;
+
+	// 업로드 디렉토리 (서버 경유 업로드와 같은 위치)
+	private final String directory;
+
+	UploadTarget(String description, String directory) {
+		this.description = description;
+		this.directory = directory;
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.epari.upload.dto;
+
+import com.example.epari.upload.domain.UploadTarget;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 직접 업로드 완료 응답 DTO
+ */
+@Getter
+@Builder
+public class UploadCompleteResponseDto {
+
+	private UploadTarget target;
+
+	private Long targetId;
+
+	// 생성된 첨부 파일 ID
+	private Long fileId;
+
+	private String originalFileName;
+
+	private String fileUrl;
+
+	private Long fileSize;
+
+}
@@ -0,0 +1,35 @@
+package com.example.epari.upload.dto;
+
+import com.example.epari.upload.domain.UploadTarget;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 직접 업로드 세션 생성 요청 DTO
+ */
+@Getter
+@Setter
+public class UploadSessionRequestDto {
+
+	@NotNull
+	private UploadTarget target;
+
+	// 첨부 대상 ID (제출물/강의 자료/공지사항 ID)
+	@NotNull
+	private Long targetId;
+
+	@NotBlank
+	private String fileName;
+
+	@NotBlank
+	private String contentType;
+
+	@NotNull
+	@Positive
+	private Long fileSize;
+
+}
@@ -0,0 +1,28 @@
+package com.example.epari.upload.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 직접 업로드 세션 생성 응답 DTO
+ * 클라이언트는 uploadUrl로 method와 headers를 그대로 사용하여 파일을 업로드한 뒤 완료 API 호출
+ */
+@Getter
+@Builder
+public class UploadSessionResponseDto {
+
+	private String sessionId;
+
+	private String uploadUrl;
+
+	private String method;
+
+	// 업로드 요청에 포함해야 하는 헤더 (서명에 포함된 값)
+	private Map<String, String> headers;
+
+	private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,82 @@
+package com.example.epari.upload.repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.epari.upload.domain.UploadSession;
+import com.example.epari.upload.domain.UploadTarget;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직접 업로드 세션 저장소
+ * 세션을 Redis 해시로 보관하고 만료 시간이 지나면 자동 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class UploadSessionRepository {
+
+	private static final String KEY_PREFIX = "epari::upload-session::";
+
+	// 완료 처리 중 표시 (동시에 완료 요청이 와도 한 번만 첨부)
+	private static final String CLAIMED_FIELD = "claimed";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public void save(UploadSession session, Duration ttl) {
+		String key = key(session.getId());
+		redisTemplate.opsForHash().putAll(key, Map.of(
+				"userId", session.getUserId().toString(),
+				"target", session.getTarget().name(),
+				"targetId", session.getTargetId().toString(),
+				"objectKey", session.getObjectKey(),
+				"originalFileName", session.getOriginalFileName(),
+				"contentType", session.getContentType(),
+				"fileSize", String.valueOf(session.getFileSize()),
+				"deletionId", session.getDeletionId().toString()
+		));
+		redisTemplate.expire(key, ttl);
+	}
+
+	public Optional<UploadSession> findById(String sessionId) {
+		Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(sessionId));
+		if (entries.isEmpty() || !entries.containsKey("objectKey")) {
+			return Optional.empty();
+		}
+
+		return Optional.of(UploadSession.builder()
+				.id(sessionId)
+				.userId(Long.valueOf(entries.get("userId").toString()))
+				.target(UploadTarget.valueOf(entries.get("target").toString()))
+				.targetId(Long.valueOf(entries.get("targetId").toString()))
+				.objectKey(entries.get("objectKey").toString())
+				.originalFileName(entries.get("originalFileName").toString())
+				.contentType(entries.get("contentType").toString())
+				.fileSize(Long.parseLong(entries.get("fileSize").toString()))
+				.deletionId(Long.valueOf(entries.get("deletionId").toString()))
+				.build());
+	}
+
+	// 완료 처리 선점 (이미 다른 요청이 처리 중이면 false)
+	public boolean claim(String sessionId) {
+		return Boolean.TRUE.equals(redisTemplate.opsForHash().putIfAbsent(key(sessionId), CLAIMED_FIELD, "1"));
+	}
+
+	// 완료 처리 실패 시 선점 해제 (다시 완료 요청 가능)
+	public void release(String sessionId) {
+		redisTemplate.opsForHash().delete(key(sessionId), CLAIMED_FIELD);
+	}
+
+	public void delete(String sessionId) {
+		redisTemplate.delete(key(sessionId));
+	}
+
+	private String key(String sessionId) {
+		return KEY_PREFIX + sessionId;
+	}
+
+}
@@ -0,0 +1,252 @@
+package com.example.epari.upload.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.epari.assignment.domain.Submission;
+import com.example.epari.assignment.domain.SubmissionFile;
+import com.example.epari.assignment.repository.SubmissionFileRepository;
+import com.example.epari.assignment.repository.SubmissionRepository;
+import com.example.epari.board.domain.Notice;
+import com.example.epari.board.domain.NoticeFile;
+import com.example.epari.board.repository.NoticeFileRepository;
+import com.example.epari.board.repository.NoticeRepository;
+import com.example.epari.course.domain.CourseContent;
+import com.example.epari.course.domain.CourseContentFile;
+import com.example.epari.course.repository.CourseContentRepository;
+import com.example.epari.global.auth.dto.ResolvedPrincipal;
+import com.example.epari.global.common.service.FileDeletionService;
+import com.example.epari.global.common.service.S3FileService;
+import com.example.epari.global.event.DashboardChangedEvent;
+import com.example.epari.global.exception.BusinessBaseException;
+import com.example.epari.global.exception.ErrorCode;
+import com.example.epari.global.exception.assignment.SubmissionNotFoundException;
+import com.example.epari.global.exception.assignment.SubmissionStudentMismatchException;
+import com.example.epari.global.exception.course.CourseInstructorMismatchException;
+import com.example.epari.global.exception.file.CourseContentNotFoundException;
+import com.example.epari.upload.domain.UploadSession;
+import com.example.epari.upload.domain.UploadTarget;
+import com.example.epari.upload.dto.UploadCompleteResponseDto;
+import com.example.epari.upload.dto.UploadSessionRequestDto;
+import com.example.epari.upload.dto.UploadSessionResponseDto;
+import com.example.epari.upload.repository.UploadSessionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 직접 업로드 서비스
+ * 파일을 서버를 거치지 않고 Presigned PUT URL로 S3에 바로 업로드하도록 세션을 발급하고,
+ * 업로드 완료 시 S3 객체를 HEAD로 확인한 뒤 제출물/강의 자료/공지사항 첨부 파일로 등록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UploadSessionService {
+
+	// 업로드 URL 유효 시간
+	private static final Duration UPLOAD_URL_EXPIRATION = Duration.ofMinutes(10);
+
+	// 세션 보관 시간 (업로드 URL 만료 후 완료 요청까지의 여유 포함)
+	private static final Duration SESSION_TTL = Duration.ofMinutes(30);
+
+	// 완료되지 않은 업로드 파일 삭제까지의 시간 (세션 만료 후 삭제)
+	private static final Duration ORPHAN_DELETION_DELAY = SESSION_TTL.plusMinutes(5);
+
+	private final UploadSessionRepository uploadSessionRepository;
+
+	private final S3FileService s3FileService;
+
+	private final FileDeletionService fileDeletionService;
+
+	private final SubmissionRepository submissionRepository;
+
+	private final SubmissionFileRepository submissionFileRepository;
+
+	private final CourseContentRepository courseContentRepository;
+
+	private final NoticeRepository noticeRepository;
+
+	private final NoticeFileRepository noticeFileRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final TransactionTemplate transactionTemplate;
+
+	// 업로드 세션 생성 (첨부 권한과 파일명/크기를 서버 경유 업로드와 같은 기준으로 검사)
+	// 업로드 후 완료 요청이 오지 않은 파일이 남지 않도록, 완료 시 취소되는 지연 삭제를 함께 예약
+	@Transactional
+	public UploadSessionResponseDto createSession(ResolvedPrincipal principal, UploadSessionRequestDto requestDto) {
+		validateTargetAccess(requestDto.getTarget(), requestDto.getTargetId(), principal.getUserId());
+
+		String objectKey = s3FileService.createUploadKey(requestDto.getTarget().getDirectory(),
+				requestDto.getFileName(), requestDto.getFileSize());
+		String uploadUrl = s3FileService.generatePresignedUploadUrl(objectKey, requestDto.getContentType(),
+				requestDto.getFileSize(), UPLOAD_URL_EXPIRATION);
+		Long deletionId = fileDeletionService.scheduleDeletion(List.of(objectKey), ORPHAN_DELETION_DELAY);
+
+		UploadSession session = UploadSession.builder()
+				.id(UUID.randomUUID().toString())
+				.userId(principal.getUserId())
+				.target(requestDto.getTarget())
+				.targetId(requestDto.getTargetId())
+				.objectKey(objectKey)
+				.originalFileName(requestDto.getFileName())
+				.contentType(requestDto.getContentType())
+				.fileSize(requestDto.getFileSize())
+				.deletionId(deletionId)
+				.build();
+		uploadSessionRepository.save(session, SESSION_TTL);
+
+		return UploadSessionResponseDto.builder()
+				.sessionId(session.getId())
+				.uploadUrl(uploadUrl)
+				.method("PUT")
+				.headers(Map.of(HttpHeaders.CONTENT_TYPE, requestDto.getContentType()))
+				.expiresAt(LocalDateTime.now().plus(UPLOAD_URL_EXPIRATION))
+				.build();
+	}
+
+	// 업로드 완료 처리
+	// S3 확인은 트랜잭션 밖에서 수행하고, 첨부 파일 등록만 트랜잭션으로 처리
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public UploadCompleteResponseDto completeSession(ResolvedPrincipal principal, String sessionId) {
+		UploadSession session = uploadSessionRepository.findById(sessionId)
+				.orElseThrow(() -> new BusinessBaseException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+		if (!session.getUserId().equals(principal.getUserId())) {
+			throw new BusinessBaseException(ErrorCode.FORBIDDEN);
+		}
+		if (!uploadSessionRepository.claim(sessionId)) {
+			throw new BusinessBaseException(ErrorCode.UPLOAD_SESSION_IN_PROGRESS);
+		}
+
+		UploadCompleteResponseDto response;
+		try {
+			long uploadedSize = s3FileService.findObjectSize(session.getObjectKey())
+					.orElseThrow(() -> new BusinessBaseException(ErrorCode.UPLOADED_FILE_NOT_FOUND));
+			String fileUrl = s3FileService.getFileUrl(session.getObjectKey());
+
+			// 요청한 크기와 다른 파일은 삭제하고 세션 종료
+			if (uploadedSize != session.getFileSize()) {
+				log.warn("Uploaded file size mismatch - session: {}, expected: {}, actual: {}",
+						sessionId, session.getFileSize(), uploadedSize);
+				s3FileService.deleteFilesQuietly(List.of(fileUrl));
+				uploadSessionRepository.delete(sessionId);
+				throw new BusinessBaseException(ErrorCode.UPLOADED_FILE_MISMATCH);
+			}
+
+			// 첨부 등록과 지연 삭제 취소를 한 트랜잭션으로 처리
+			response = transactionTemplate.execute(status -> {
+				UploadCompleteResponseDto attached = attachFile(session, fileUrl);
+				fileDeletionService.cancelDeletion(session.getDeletionId());
+				return attached;
+			});
+		} catch (RuntimeException e) {
+			// 업로드 전이거나 등록에 실패한 경우 다시 완료 요청할 수 있도록 선점 해제
+			uploadSessionRepository.release(sessionId);
+			throw e;
+		}
+
+		// 첨부가 커밋된 뒤에는 선점을 해제하지 않음
+		// 세션 삭제에 실패해도 선점 상태로 남아 다시 완료 요청해도 중복 첨부되지 않고, 보관 시간이 지나면 만료됨
+		try {
+			uploadSessionRepository.delete(sessionId);
+		} catch (RuntimeException e) {
+			log.warn("Failed to delete completed upload session - session: {}", sessionId, e);
+		}
+		return response;
+	}
+
+	// 첨부 대상 조회 및 권한 확인
+	private void validateTargetAccess(UploadTarget target, Long targetId, Long userId) {
+		switch (target) {
+			case SUBMISSION -> getOwnSubmission(targetId, userId);
+			case COURSE_CONTENT -> getOwnCourseContent(targetId, userId);
+			case NOTICE -> getOwnNotice(targetId, userId);
+		}
+	}
+
+	// 업로드된 파일을 첨부 대상에 등록
+	private UploadCompleteResponseDto attachFile(UploadSession session, String fileUrl) {
+		String storedFileName = session.getObjectKey().substring(session.getObjectKey().lastIndexOf('/') + 1);
+
+		Long fileId = switch (session.getTarget()) {
+			case SUBMISSION -> {
+				Submission submission = getOwnSubmission(session.getTargetId(), session.getUserId());
+				SubmissionFile submissionFile = SubmissionFile.createSubmissionFile(session.getOriginalFileName(),
+						storedFileName, fileUrl, session.getFileSize(), submission);
+				submission.addFile(submissionFile);
+				yield submissionFileRepository.save(submissionFile).getId();
+			}
+			case COURSE_CONTENT -> {
+				CourseContent content = getOwnCourseContent(session.getTargetId(), session.getUserId());
+				CourseContentFile contentFile = CourseContentFile.createAttachment(session.getOriginalFileName(),
+						storedFileName, fileUrl, session.getFileSize(), content);
+				content.addFile(contentFile);
+				courseContentRepository.saveAndFlush(content);
+				eventPublisher.publishEvent(DashboardChangedEvent.course(content.getCourse().getId()));
+				yield contentFile.getId();
+			}
+			case NOTICE -> {
+				Notice notice = getOwnNotice(session.getTargetId(), session.getUserId());
+				NoticeFile noticeFile = NoticeFile.createNoticeFile(session.getOriginalFileName(),
+						storedFileName, fileUrl, session.getFileSize(), notice);
+				NoticeFile savedFile = noticeFileRepository.save(noticeFile);
+				notice.getFiles().add(savedFile);
+				eventPublisher.publishEvent(DashboardChangedEvent.course(notice.getCourse().getId()));
+				yield savedFile.getId();
+			}
+		};
+
+		return UploadCompleteResponseDto.builder()
+				.target(session.getTarget())
+				.targetId(session.getTargetId())
+				.fileId(fileId)
+				.originalFileName(session.getOriginalFileName())
+				.fileUrl(fileUrl)
+				.fileSize(session.getFileSize())
+				.build();
+	}
+
+	// 본인 제출물만 첨부 가능
+	private Submission getOwnSubmission(Long submissionId, Long studentId) {
+		Submission submission = submissionRepository.findById(submissionId)
+				.orElseThrow(SubmissionNotFoundException::new);
+		if (!submission.getStudent().getId().equals(studentId)) {
+			throw new SubmissionStudentMismatchException();
+		}
+		return submission;
+	}
+
+	// 담당 강사만 강의 자료에 첨부 가능
+	private CourseContent getOwnCourseContent(Long contentId, Long instructorId) {
+		CourseContent content = courseContentRepository.findById(contentId)
+				.orElseThrow(CourseContentNotFoundException::new);
+		if (!content.getCourse().getInstructor().getId().equals(instructorId)) {
+			throw new CourseInstructorMismatchException();
+		}
+		return content;
+	}
+
+	// 작성한 강사만 공지사항에 첨부 가능
+	private Notice getOwnNotice(Long noticeId, Long instructorId) {
+		Notice notice = noticeRepository.findById(noticeId)
+				.orElseThrow(() -> new BusinessBaseException(ErrorCode.NOT_FOUND));
+		if (!notice.getInstructor().getId().equals(instructorId)) {
+			throw new BusinessBaseException(ErrorCode.FORBIDDEN);
+		}
+		return notice;
+	}
+
+}
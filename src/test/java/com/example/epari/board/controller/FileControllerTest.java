@@ -0,0 +1,141 @@
+package com.example.epari.board.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.epari.board.domain.NoticeFile;
+import com.example.epari.board.repository.NoticeFileRepository;
+import com.example.epari.global.config.aws.AwsS3Properties;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+class FileControllerTest {
+
+	private static final String DOWNLOAD_URL = "/api/notices/1/files/2/download";
+
+	private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+	private static final String ETAG = "\"etag-1\"";
+
+	private final NoticeFileRepository noticeFileRepository = mock(NoticeFileRepository.class);
+
+	private final S3Client s3Client = mock(S3Client.class);
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		AwsS3Properties properties = new AwsS3Properties();
+		properties.setBucket("bucket");
+		properties.setRegion("ap-northeast-2");
+
+		NoticeFile noticeFile = NoticeFile.builder()
+				.originalFileName("notice.pdf")
+				.storedFileName("notices/notice.pdf")
+				.fileUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/notices/notice.pdf")
+				.fileSize((long)CONTENT.length)
+				.build();
+		given(noticeFileRepository.findById(2L)).willReturn(Optional.of(noticeFile));
+
+		mockMvc = MockMvcBuilders.standaloneSetup(new FileController(noticeFileRepository, s3Client, properties))
+				.build();
+	}
+
+	@Test
+	void 단일_구간_요청은_S3에_전달하고_206으로_응답() throws Exception {
+		given(s3Client.getObject(any(GetObjectRequest.class)))
+				.willReturn(objectStream(3, 6, "bytes 3-6/10"));
+
+		MvcResult result = mockMvc.perform(get(DOWNLOAD_URL).header(HttpHeaders.RANGE, "bytes=3-6"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 3-6/10"))
+				.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+				.andExpect(content().bytes("3456".getBytes(StandardCharsets.UTF_8)));
+		assertThat(capturedRequest().range()).isEqualTo("bytes=3-6");
+	}
+
+	@Test
+	void 여러_구간_요청은_전달하지_않고_전체를_200으로_응답() throws Exception {
+		given(s3Client.getObject(any(GetObjectRequest.class)))
+				.willReturn(objectStream(0, CONTENT.length - 1, null));
+
+		MvcResult result = mockMvc.perform(get(DOWNLOAD_URL).header(HttpHeaders.RANGE, "bytes=0-1,5-6"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+				.andExpect(content().bytes(CONTENT));
+		assertThat(capturedRequest().range()).isNull();
+	}
+
+	@Test
+	void S3가_무시한_잘못된_구간_요청은_전체를_200으로_응답() throws Exception {
+		given(s3Client.getObject(any(GetObjectRequest.class)))
+				.willReturn(objectStream(0, CONTENT.length - 1, null));
+
+		MvcResult result = mockMvc.perform(get(DOWNLOAD_URL).header(HttpHeaders.RANGE, "bytes=5-1"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void ETag가_일치하면_본문_없이_304로_응답() throws Exception {
+		given(s3Client.getObject(any(GetObjectRequest.class)))
+				.willThrow(S3Exception.builder().statusCode(304).build());
+
+		mockMvc.perform(get(DOWNLOAD_URL).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+				.andExpect(content().bytes(new byte[0]));
+		assertThat(capturedRequest().ifNoneMatch()).isEqualTo(ETAG);
+	}
+
+	private ResponseInputStream<GetObjectResponse> objectStream(int start, int end, String contentRange) {
+		int length = end - start + 1;
+		GetObjectResponse response = GetObjectResponse.builder()
+				.contentLength((long)length)
+				.contentRange(contentRange)
+				.eTag(ETAG)
+				.build();
+		return new ResponseInputStream<>(response,
+				AbortableInputStream.create(new ByteArrayInputStream(CONTENT, start, length)));
+	}
+
+	private GetObjectRequest capturedRequest() {
+		ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+		then(s3Client).should().getObject(captor.capture());
+		return captor.getValue();
+	}
+
+}
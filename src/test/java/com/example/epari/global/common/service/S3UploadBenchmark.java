@@ -0,0 +1,230 @@
+package com.example.epari.global.common.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.epari.global.config.AsyncConfig;
+import com.example.epari.global.config.aws.AwsS3Properties;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * 단일 PUT / 멀티파트 업로드의 처리량과 최대 힙 사용량 비교
+ * 테스트 실행 대상이 아니며, 필요 시 main 메서드로 직접 실행 (예: -Xmx512m, 인자로 연결당 대역폭 MB/s 지정)
+ * 네트워크 대신 연결당 대역폭을 흉내 내는 가짜 S3 클라이언트를 사용하므로 절대값보다 두 방식의 상대 비교용
+ */
+public class S3UploadBenchmark {
+
+	private static final int MB = 1024 * 1024;
+
+	private static final int[] FILE_SIZES_MB = {20, 32, 48};
+
+	private static final int ROUNDS = 3;
+
+	// 힙 사용량 측정 주기
+	private static final long SAMPLE_INTERVAL_MILLIS = 2;
+
+	public static void main(String[] args) throws Exception {
+		double bandwidthMbPerSecond = args.length > 0 ? Double.parseDouble(args[0]) : 40.0;
+
+		AwsS3Properties properties = new AwsS3Properties();
+		properties.setBucket("benchmark");
+		properties.setRegion("ap-northeast-2");
+
+		S3Client s3Client = fakeS3Client(bandwidthMbPerSecond);
+		AsyncConfig asyncConfig = new AsyncConfig();
+		AsyncTaskExecutor partExecutor = asyncConfig.s3PartUploadTaskExecutor();
+		S3FileService s3FileService = new S3FileService(s3Client, null, properties, null,
+				asyncConfig.s3UploadTaskExecutor(), partExecutor);
+
+		System.out.printf("bandwidth per connection: %.1f MB/s%n", bandwidthMbPerSecond);
+		System.out.printf("%-10s %8s %12s %14s %16s%n", "path", "size(MB)", "elapsed(ms)", "throughput(MB/s)",
+				"peak heap(MB)");
+
+		for (int sizeMb : FILE_SIZES_MB) {
+			MultipartFile file = new GeneratedMultipartFile(sizeMb * (long)MB);
+			for (int round = 0; round < ROUNDS; round++) {
+				measure("single", sizeMb, () -> s3Client.putObject(PutObjectRequest.builder()
+								.bucket(properties.getBucket())
+								.key("benchmark/" + UUID.randomUUID())
+								.contentLength(file.getSize())
+								.build(),
+						RequestBody.fromInputStream(file.getInputStream(), file.getSize())));
+				measure("multipart", sizeMb, () -> s3FileService.putMultipart("benchmark/" + UUID.randomUUID(), file));
+			}
+		}
+		System.exit(0);
+	}
+
+	private static void measure(String path, int sizeMb, Upload upload) throws Exception {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		System.gc();
+		long baseline = memory.getHeapMemoryUsage().getUsed();
+
+		AtomicLong peak = new AtomicLong(baseline);
+		AtomicBoolean running = new AtomicBoolean(true);
+		Thread sampler = new Thread(() -> {
+			while (running.get()) {
+				peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+				try {
+					Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		});
+		sampler.start();
+
+		long startedAt = System.nanoTime();
+		upload.run();
+		long elapsedNanos = System.nanoTime() - startedAt;
+
+		running.set(false);
+		sampler.join();
+
+		double elapsedMillis = elapsedNanos / 1_000_000.0;
+		System.out.printf("%-10s %8d %12.1f %14.1f %16.1f%n", path, sizeMb, elapsedMillis,
+				sizeMb / (elapsedMillis / 1000.0), (peak.get() - baseline) / (double)MB);
+	}
+
+	// 요청 본문을 모두 읽고 연결당 대역폭만큼 지연시키는 가짜 S3 클라이언트
+	private static S3Client fakeS3Client(double bandwidthMbPerSecond) {
+		return (S3Client)Proxy.newProxyInstance(S3Client.class.getClassLoader(), new Class<?>[] {S3Client.class},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "createMultipartUpload" -> CreateMultipartUploadResponse.builder()
+							.uploadId(UUID.randomUUID().toString())
+							.build();
+					case "uploadPart" -> {
+						transfer((RequestBody)args[1], bandwidthMbPerSecond);
+						yield UploadPartResponse.builder().eTag(UUID.randomUUID().toString()).build();
+					}
+					case "putObject" -> {
+						transfer((RequestBody)args[1], bandwidthMbPerSecond);
+						yield PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+					}
+					case "completeMultipartUpload" -> CompleteMultipartUploadResponse.builder().build();
+					case "serviceName" -> S3Client.SERVICE_NAME;
+					case "close", "abortMultipartUpload" -> null;
+					case "toString" -> "FakeS3Client";
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	private static void transfer(RequestBody body, double bandwidthMbPerSecond) throws IOException,
+			InterruptedException {
+		byte[] buffer = new byte[64 * 1024];
+		long transferred = 0;
+		try (InputStream inputStream = body.contentStreamProvider().newStream()) {
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				transferred += read;
+			}
+		}
+		Thread.sleep((long)(transferred / (bandwidthMbPerSecond * MB) * 1000));
+	}
+
+	@FunctionalInterface
+	private interface Upload {
+
+		void run() throws Exception;
+
+	}
+
+	/*
+	 * 디스크에 임시 저장된 업로드 파일처럼 내용을 메모리에 올리지 않고 스트림으로만 제공하는 파일
+	 */
+	private static class GeneratedMultipartFile implements MultipartFile {
+
+		private final long size;
+
+		GeneratedMultipartFile(long size) {
+			this.size = size;
+		}
+
+		@Override
+		public String getName() {
+			return "file";
+		}
+
+		@Override
+		public String getOriginalFilename() {
+			return "benchmark.pdf";
+		}
+
+		@Override
+		public String getContentType() {
+			return "application/pdf";
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		@Override
+		public long getSize() {
+			return size;
+		}
+
+		@Override
+		public byte[] getBytes() {
+			throw new UnsupportedOperationException("Content is only available as a stream");
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new InputStream() {
+
+				private long remaining = size;
+
+				@Override
+				public int read() {
+					if (remaining <= 0) {
+						return -1;
+					}
+					remaining--;
+					return (int)(remaining & 0x7f);
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) {
+					if (remaining <= 0) {
+						return -1;
+					}
+					int count = (int)Math.min(len, remaining);
+					for (int i = 0; i < count; i++) {
+						b[off + i] = (byte)((remaining - i) & 0x7f);
+					}
+					remaining -= count;
+					return count;
+				}
+
+			};
+		}
+
+		@Override
+		public void transferTo(File dest) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
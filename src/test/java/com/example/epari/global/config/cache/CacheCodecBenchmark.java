@@ -0,0 +1,95 @@
+package com.example.epari.global.config.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.example.epari.admin.dto.AdminCourseListResponseDto;
+import com.example.epari.course.dto.curriculum.CurriculumResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * 캐시 값 직렬화 방식별 크기/속도 비교
+ * 테스트 실행 대상이 아니며, 필요 시 main 메서드로 직접 실행
+ */
+public class CacheCodecBenchmark {
+
+	private static final int WARMUP_ROUNDS = 2_000;
+
+	private static final int MEASURE_ROUNDS = 10_000;
+
+	public static void main(String[] args) {
+		GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(currentObjectMapper());
+
+		List<Object> samples = List.of(courseList(200), curriculumList(60));
+		System.out.printf("%-14s %-28s %10s %14s %14s%n", "codec", "value", "bytes", "write(us/op)", "read(us/op)");
+
+		for (Object sample : samples) {
+			for (CacheCodec codec : CacheCodec.values()) {
+				run(codec.name(), codec.createSerializer(jsonSerializer), sample);
+			}
+		}
+	}
+
+	private static void run(String name, RedisSerializer<Object> serializer, Object value) {
+		byte[] bytes = serializer.serialize(value);
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			serializer.deserialize(serializer.serialize(value));
+		}
+
+		long writeStarted = System.nanoTime();
+		for (int i = 0; i < MEASURE_ROUNDS; i++) {
+			bytes = serializer.serialize(value);
+		}
+		long writeNanos = System.nanoTime() - writeStarted;
+
+		long readStarted = System.nanoTime();
+		for (int i = 0; i < MEASURE_ROUNDS; i++) {
+			serializer.deserialize(bytes);
+		}
+		long readNanos = System.nanoTime() - readStarted;
+
+		System.out.printf("%-14s %-28s %10d %14.2f %14.2f%n", name, describe(value), bytes.length,
+				writeNanos / 1000.0 / MEASURE_ROUNDS, readNanos / 1000.0 / MEASURE_ROUNDS);
+	}
+
+	// RedisConfig의 기존 JSON 직렬화 설정과 동일
+	private static ObjectMapper currentObjectMapper() {
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new JavaTimeModule());
+		mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		return mapper;
+	}
+
+	private static List<AdminCourseListResponseDto> courseList(int size) {
+		List<AdminCourseListResponseDto> courses = new ArrayList<>(size);
+		for (long i = 1; i <= size; i++) {
+			courses.add(new AdminCourseListResponseDto(i, "Spring Boot 백엔드 과정 " + i, "강의실 " + (i % 12),
+					i % 30, "강사" + (i % 30), LocalDate.of(2024, 3, 4), LocalDate.of(2024, 8, 30), 25L + i % 10));
+		}
+		return courses;
+	}
+
+	private static List<CurriculumResponseDto> curriculumList(int size) {
+		List<CurriculumResponseDto> curriculums = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			curriculums.add(CurriculumResponseDto.builder()
+					.date(LocalDate.of(2024, 3, 4).plusDays(i))
+					.topic("주제 " + i + ": JPA 연관관계 매핑과 지연 로딩")
+					.description("엔티티 연관관계, 영속성 컨텍스트, 페치 조인과 배치 조회를 실습합니다.")
+					.build());
+		}
+		return curriculums;
+	}
+
+	private static String describe(Object value) {
+		List<?> list = (List<?>)value;
+		return list.get(0).getClass().getSimpleName() + " x" + list.size();
+	}
+
+}